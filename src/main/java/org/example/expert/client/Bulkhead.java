@@ -0,0 +1,83 @@
+package org.example.expert.client;
+
+import org.example.expert.domain.common.exception.ServerException;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 외부 호출을 전용 스레드 풀에서 실행해 동시 실행 수와 대기열 크기를 제한합니다.
+ * 요청 스레드는 정해진 시간까지만 기다리므로 외부 서비스가 멈춰도 함께 멈추지 않습니다.
+ */
+public class Bulkhead {
+
+    private final String name;
+    private final ThreadPoolExecutor executor;
+
+    public Bulkhead(String name, int maxConcurrentCalls, int queueCapacity) {
+        this.name = name;
+        this.executor = new ThreadPoolExecutor(
+                maxConcurrentCalls,
+                maxConcurrentCalls,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                namedThreadFactory(name),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    public <T> T execute(Callable<T> call, Duration timeout) {
+        Future<T> future;
+        try {
+            future = executor.submit(call);
+        } catch (RejectedExecutionException e) {
+            throw new ServerException(name + " 요청이 많아 처리할 수 없습니다.");
+        }
+
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new ServerException(name + " 응답 시간이 초과되었습니다.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new ServerException(name + " 호출에 실패했습니다. " + e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServerException(name + " 호출이 중단되었습니다.");
+        }
+    }
+
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    public int getQueueSize() {
+        return executor.getQueue().size();
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static ThreadFactory namedThreadFactory(String name) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -1,49 +1,222 @@
 package org.example.expert.client;
 
-import org.example.expert.client.dto.WeatherDto;
+import com.fasterxml.jackson.core.JsonFactory;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
 import org.example.expert.domain.common.exception.ServerException;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.net.URI;
+import java.time.Clock;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 
+@Slf4j
 @Component
 public class WeatherClient {
 
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
     private final RestTemplate restTemplate;
+    private final WeatherClientProperties properties;
+    private final Clock clock;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+
+    // 날씨는 하루 단위로만 바뀌므로 내려받은 피드를 날짜 색인으로 보관합니다.
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private volatile WeatherSnapshot weatherSnapshot;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter staleCounter;
+    private final Counter fallbackCounter;
+    private final Counter refreshSuccessCounter;
+    private final Counter refreshFailureCounter;
 
-    public WeatherClient(RestTemplateBuilder builder) {
-        this.restTemplate = builder.build();
+    @Autowired
+    public WeatherClient(RestTemplateBuilder builder, WeatherClientProperties properties, MeterRegistry meterRegistry) {
+        this(
+                builder.setConnectTimeout(properties.getConnectTimeout())
+                        .setReadTimeout(properties.getReadTimeout())
+                        .build(),
+                properties,
+                meterRegistry,
+                Clock.systemDefaultZone()
+        );
+    }
+
+    WeatherClient(RestTemplate restTemplate, WeatherClientProperties properties, MeterRegistry meterRegistry, Clock clock) {
+        this.restTemplate = restTemplate;
+        this.properties = properties;
+        this.clock = clock;
+        this.circuitBreaker = new CircuitBreaker(
+                "weather-api", properties.getFailureThreshold(), properties.getOpenDuration(), clock);
+        this.bulkhead = new Bulkhead(
+                "weather-api", properties.getMaxConcurrentCalls(), properties.getQueueCapacity());
+
+        this.hitCounter = cacheCounter(meterRegistry, "hit");
+        this.missCounter = cacheCounter(meterRegistry, "miss");
+        this.staleCounter = cacheCounter(meterRegistry, "stale");
+        this.fallbackCounter = cacheCounter(meterRegistry, "fallback");
+        this.refreshSuccessCounter = refreshCounter(meterRegistry, "success");
+        this.refreshFailureCounter = refreshCounter(meterRegistry, "failure");
+
+        Gauge.builder("weather.circuit.state", circuitBreaker, breaker -> breaker.getState().ordinal())
+                .description("0 = CLOSED, 1 = OPEN, 2 = HALF_OPEN")
+                .register(meterRegistry);
+        Gauge.builder("weather.bulkhead.active", bulkhead, Bulkhead::getActiveCount).register(meterRegistry);
+        Gauge.builder("weather.bulkhead.queued", bulkhead, Bulkhead::getQueueSize).register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        bulkhead.shutdown();
     }
 
     public String getTodayWeather() {
-        ResponseEntity<WeatherDto[]> responseEntity =
-                restTemplate.getForEntity(buildWeatherApiUri(), WeatherDto[].class);
+        return getWeather(LocalDate.now(clock));
+    }
+
+    /**
+     * 임의 날짜의 날씨를 조회합니다. 한 번 내려받은 피드로 모든 날짜를 조회하므로
+     * 과거 일정 이관(backfill) 시에도 날짜마다 원격 호출을 하지 않습니다.
+     */
+    public String getWeather(LocalDate date) {
+        WeatherSnapshot snapshot = weatherSnapshot;
+        if (snapshot != null && snapshot.isFreshFor(LocalDate.now(clock))) {
+            String weather = snapshot.index().get(date);
+            if (weather != null) {
+                hitCounter.increment();
+                return weather;
+            }
+        }
+
+        missCounter.increment();
+        return loadWeather(date);
+    }
 
-        WeatherDto[] weatherArray = responseEntity.getBody();
-        if (!HttpStatus.OK.equals(responseEntity.getStatusCode())) {
-            throw new ServerException("날씨 데이터를 가져오는데 실패했습니다. 상태 코드: " + responseEntity.getStatusCode());
+    /**
+     * 주기적으로, 그리고 자정 직전에 한 번 더 날씨를 미리 받아 둡니다.
+     * 자정이 지나도 캐시에 내일 날씨가 이미 있으므로 일정 등록이 네트워크를 기다리지 않습니다.
+     */
+    @Scheduled(fixedDelayString = "${weather.cache.refresh-interval:PT1H}")
+    @Scheduled(cron = "${weather.cache.rollover-cron:0 55 23 * * *}")
+    public void refresh() {
+        // 요청이 이미 갱신 중이면 같은 피드를 한 번 더 받지 않고 이번 주기는 건너뜁니다.
+        if (!refreshLock.tryLock()) {
+            log.debug("날씨 캐시를 이미 갱신하는 중이라 이번 예약 갱신은 건너뜁니다.");
+            return;
+        }
+        LocalDate today = LocalDate.now(clock);
+        try {
+            refreshWeather(today);
+        } catch (RuntimeException e) {
+            log.warn("날씨 캐시 갱신에 실패했습니다. 기존 값을 계속 사용합니다. date = {}", today, e);
+        } finally {
+            refreshLock.unlock();
         }
+    }
 
-        if (weatherArray == null || weatherArray.length == 0) {
-            throw new ServerException("날씨 데이터가 없습니다.");
+    // 갱신은 한 번에 하나만 하되, 기다리는 요청은 refresh-wait-timeout 까지만 기다립니다.
+    // 그보다 오래 걸리면 원격 호출이 끝나기를 기다리지 않고 이전 값이나 기본값을 돌려주어 요청 스레드가 쌓이지 않게 합니다.
+    private String loadWeather(LocalDate date) {
+        long waitMillis = Math.min(properties.getRefreshWaitTimeout().toMillis(), properties.getCallTimeout().toMillis());
+        try {
+            if (!refreshLock.tryLock(waitMillis, TimeUnit.MILLISECONDS)) {
+                return fallbackWeather(date, new ServerException("날씨 데이터를 갱신하는 중입니다."));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return fallbackWeather(date, new ServerException("날씨 데이터를 기다리는 중 중단되었습니다."));
         }
+        try {
+            LocalDate today = LocalDate.now(clock);
 
-        String today = getCurrentDate();
+            // 다른 요청이 이미 갱신했다면 다시 호출하지 않습니다.
+            WeatherSnapshot snapshot = weatherSnapshot;
+            if (snapshot == null || !snapshot.isFreshFor(today)) {
+                try {
+                    snapshot = refreshWeather(today);
+                } catch (RuntimeException e) {
+                    return fallbackWeather(date, e);
+                }
+            }
 
-        for (WeatherDto weatherDto : weatherArray) {
-            if (today.equals(weatherDto.getDate())) {
-                return weatherDto.getWeather();
+            // 피드에 없는 날짜는 클라이언트가 보낸 weatherDate 로도 들어오므로 갱신 실패와 같이 기본값으로 처리합니다.
+            String weather = snapshot.index().get(date);
+            if (weather == null) {
+                return fallbackWeather(date, new ServerException(date.equals(today)
+                        ? "오늘에 해당하는 날씨 데이터를 찾을 수 없습니다."
+                        : date + " 에 해당하는 날씨 데이터를 찾을 수 없습니다."));
             }
+            return weather;
+        } finally {
+            refreshLock.unlock();
         }
+    }
 
-        throw new ServerException("오늘에 해당하는 날씨 데이터를 찾을 수 없습니다.");
+    private String fallbackWeather(LocalDate date, RuntimeException cause) {
+        WeatherSnapshot staleSnapshot = weatherSnapshot;
+        String staleWeather = staleSnapshot == null ? null : staleSnapshot.index().get(date);
+        if (staleWeather != null) {
+            staleCounter.increment();
+            log.warn("날씨 데이터를 가져오지 못해 이전에 받은 값을 사용합니다. date = {}", date, cause);
+            return staleWeather;
+        }
+
+        if (StringUtils.hasText(properties.getFallbackWeather())) {
+            fallbackCounter.increment();
+            log.warn("날씨 데이터를 가져오지 못해 기본값을 사용합니다. date = {}", date, cause);
+            return properties.getFallbackWeather();
+        }
+
+        throw cause;
+    }
+
+    private WeatherSnapshot refreshWeather(LocalDate today) {
+        try {
+            WeatherSnapshot snapshot = new WeatherSnapshot(fetchWeather(), today);
+            weatherSnapshot = snapshot;
+            refreshSuccessCounter.increment();
+            return snapshot;
+        } catch (RuntimeException e) {
+            refreshFailureCounter.increment();
+            throw e;
+        }
+    }
+
+    // 차단기가 열려 있으면 바로 실패하고, 닫혀 있으면 전용 스레드 풀에서 시간 제한을 두고 호출합니다.
+    private WeatherIndex fetchWeather() {
+        return circuitBreaker.execute(() -> bulkhead.execute(this::requestWeather, properties.getCallTimeout()));
+    }
+
+    // 응답 본문을 배열로 역직렬화하지 않고 스트리밍으로 읽어 바로 색인합니다.
+    private WeatherIndex requestWeather() {
+        WeatherIndex weatherIndex = restTemplate.execute(buildWeatherApiUri(), HttpMethod.GET, null, response -> {
+            if (!HttpStatus.OK.equals(response.getStatusCode())) {
+                throw new ServerException("날씨 데이터를 가져오는데 실패했습니다. 상태 코드: " + response.getStatusCode());
+            }
+            return WeatherIndex.parse(JSON_FACTORY, response.getBody());
+        });
+
+        if (weatherIndex == null || weatherIndex.isEmpty()) {
+            throw new ServerException("날씨 데이터가 없습니다.");
+        }
+
+        return weatherIndex;
     }
 
     private URI buildWeatherApiUri() {
@@ -55,8 +228,26 @@ public class WeatherClient {
                 .toUri();
     }
 
-    private String getCurrentDate() {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MM-dd");
-        return LocalDate.now().format(formatter);
+    private static Counter cacheCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("weather.cache.requests")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static Counter refreshCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("weather.cache.refreshes")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 갱신한 날과 그다음 날까지를 최신으로 봅니다.
+     * 자정 직전에 갱신해 두면 날짜가 바뀐 뒤에도 원격 호출 없이 조회됩니다.
+     */
+    private record WeatherSnapshot(WeatherIndex index, LocalDate refreshedOn) {
+
+        boolean isFreshFor(LocalDate today) {
+            return !today.isBefore(refreshedOn) && !today.isAfter(refreshedOn.plusDays(1));
+        }
     }
 }
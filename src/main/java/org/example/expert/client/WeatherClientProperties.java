@@ -0,0 +1,29 @@
+package org.example.expert.client;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "weather.client")
+public class WeatherClientProperties {
+
+    private Duration connectTimeout = Duration.ofSeconds(1);
+    private Duration readTimeout = Duration.ofSeconds(2);
+    // 원격 호출 전체(대기열 대기 포함)에 허용하는 시간
+    private Duration callTimeout = Duration.ofSeconds(3);
+    // 다른 요청이 갱신 중일 때 기다리는 최대 시간 (callTimeout 을 넘지 않습니다). 지나면 이전 값이나 기본값을 씁니다.
+    private Duration refreshWaitTimeout = Duration.ofSeconds(1);
+
+    private int maxConcurrentCalls = 4;
+    private int queueCapacity = 16;
+
+    private int failureThreshold = 5;
+    private Duration openDuration = Duration.ofSeconds(30);
+
+    // 비어 있으면 fallback 없이 예외를 던집니다.
+    private String fallbackWeather = "알 수 없음";
+}
@@ -0,0 +1,117 @@
+package org.example.expert.client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.example.expert.domain.common.exception.ServerException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.time.Month;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 날씨 피드를 "MM-dd" → 날씨 로 색인한 읽기 전용 테이블입니다.
+ * 윤년 기준 day-of-year(0 ~ 365)를 배열 인덱스로 쓰므로 조회는 O(1)이고 객체를 만들지 않습니다.
+ */
+public final class WeatherIndex {
+
+    private static final int DAYS = 366;
+
+    private final String[] weatherByDay;
+    private final int size;
+
+    private WeatherIndex(String[] weatherByDay, int size) {
+        this.weatherByDay = weatherByDay;
+        this.size = size;
+    }
+
+    /**
+     * [{"date":"MM-dd","weather":"..."}, ...] 형태의 피드를 스트리밍으로 읽습니다.
+     * 형식이 맞지 않는 항목은 건너뛰고, 같은 날씨 문자열은 하나의 인스턴스로 공유합니다.
+     */
+    public static WeatherIndex parse(JsonFactory jsonFactory, InputStream inputStream) throws IOException {
+        String[] weatherByDay = new String[DAYS];
+        Map<String, String> internedWeather = new HashMap<>();
+        int size = 0;
+
+        try (JsonParser parser = jsonFactory.createParser(inputStream)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new ServerException("날씨 데이터 형식이 올바르지 않습니다.");
+            }
+
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                int slot = -1;
+                String weather = null;
+
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String fieldName = parser.currentName();
+                    JsonToken valueToken = parser.nextToken();
+
+                    if ("date".equals(fieldName) && valueToken == JsonToken.VALUE_STRING) {
+                        slot = slotOf(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+                    } else if ("weather".equals(fieldName) && valueToken == JsonToken.VALUE_STRING) {
+                        weather = internedWeather.computeIfAbsent(parser.getText(), text -> text);
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+
+                if (slot >= 0 && weather != null) {
+                    if (weatherByDay[slot] == null) {
+                        size++;
+                    }
+                    weatherByDay[slot] = weather;
+                }
+            }
+        }
+
+        return new WeatherIndex(weatherByDay, size);
+    }
+
+    public String get(LocalDate date) {
+        return weatherByDay[slotOf(date.getMonth(), date.getDayOfMonth())];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private static int slotOf(Month month, int dayOfMonth) {
+        return month.firstDayOfYear(true) + dayOfMonth - 2;
+    }
+
+    // "MM-dd" 를 문자열을 만들지 않고 바로 해석합니다. 형식이 맞지 않으면 -1 을 반환합니다.
+    private static int slotOf(char[] text, int offset, int length) {
+        if (length != 5 || text[offset + 2] != '-') {
+            return -1;
+        }
+
+        int month = twoDigits(text, offset);
+        int day = twoDigits(text, offset + 3);
+        if (month < 1 || month > 12 || day < 1) {
+            return -1;
+        }
+
+        Month monthOfYear = Month.of(month);
+        if (day > monthOfYear.maxLength()) {
+            return -1;
+        }
+        return slotOf(monthOfYear, day);
+    }
+
+    private static int twoDigits(char[] text, int offset) {
+        char tens = text[offset];
+        char ones = text[offset + 1];
+        if (tens < '0' || tens > '9' || ones < '0' || ones > '9') {
+            return -1;
+        }
+        return (tens - '0') * 10 + (ones - '0');
+    }
+}
@@ -0,0 +1,67 @@
+package org.example.expert.common.concurrent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키로 동시에 들어온 조회를 하나로 합칩니다. 먼저 온 호출만 loader 를 실행하고,
+ * 그동안 들어온 호출은 그 결과(또는 예외)를 함께 받습니다. 결과를 저장하지는 않으므로 캐시가 아닙니다.
+ * 기다리는 호출이 DB 커넥션을 잡고 있지 않도록 트랜잭션 밖에서 호출해야 합니다.
+ *
+ * singleflight.loads{name} 는 실제로 실행한 횟수, singleflight.deduplicated{name} 는 합쳐진 호출 수입니다.
+ */
+@Component
+public class SingleFlight {
+
+    private final Map<List<Object>, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, Counter> loads = new ConcurrentHashMap<>();
+    private final Map<String, Counter> deduplicated = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    public SingleFlight(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String name, Object key, Supplier<T> loader) {
+        List<Object> flightKey = List.of(name, key);
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(flightKey, flight);
+
+        if (existing != null) {
+            counter(deduplicated, "singleflight.deduplicated", name).increment();
+            try {
+                return (T) existing.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                throw e;
+            }
+        }
+
+        counter(loads, "singleflight.loads", name).increment();
+        try {
+            T result = loader.get();
+            flight.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(flightKey, flight);
+        }
+    }
+
+    private Counter counter(Map<String, Counter> counters, String metricName, String name) {
+        return counters.computeIfAbsent(name, n -> meterRegistry.counter(metricName, "name", n));
+    }
+}
@@ -0,0 +1,260 @@
+package org.example.expert.config;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+
+/**
+ * 이 서비스가 발급하는 HS256 토큰({"alg":"HS256"} 헤더 + sub/email/userRole/exp/iat 클레임) 전용 인코더/디코더입니다.
+ * jjwt 의 빌더/파서와 Jackson 트리를 거치지 않고, 스레드마다 재사용하는 Mac 으로 서명합니다.
+ * 모양이 다르거나 검증에 실패한 토큰은 null 을 반환하므로 호출하는 쪽에서 jjwt 로 다시 처리합니다.
+ */
+final class Hs256TokenCodec {
+
+    private static final Base64.Encoder BASE64_URL_ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder BASE64_URL_DECODER = Base64.getUrlDecoder();
+
+    // jjwt 0.11 이 HS256 토큰에 쓰는 헤더와 같은 값입니다.
+    static final String HEADER_SEGMENT =
+            BASE64_URL_ENCODER.encodeToString("{\"alg\":\"HS256\"}".getBytes(StandardCharsets.US_ASCII));
+
+    private static final byte[] SUB = ascii("sub");
+    private static final byte[] EMAIL = ascii("email");
+    private static final byte[] USER_ROLE = ascii("userRole");
+    private static final byte[] EXP = ascii("exp");
+    private static final byte[] IAT = ascii("iat");
+
+    private final ThreadLocal<Mac> mac;
+
+    Hs256TokenCodec(byte[] secret) {
+        SecretKeySpec keySpec = new SecretKeySpec(secret, "HmacSHA256");
+        this.mac = ThreadLocal.withInitial(() -> {
+            try {
+                Mac hmac = Mac.getInstance("HmacSHA256");
+                hmac.init(keySpec);
+                return hmac;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    /**
+     * 이메일에 JSON 이스케이프가 필요한 문자가 있으면 null 을 반환합니다.
+     */
+    String encode(long userId, String email, String userRole, long issuedAtSeconds, long expiresAtSeconds) {
+        if (!isPlainJsonString(email) || !isPlainJsonString(userRole)) {
+            return null;
+        }
+
+        String payload = "{\"sub\":\"" + userId
+                + "\",\"email\":\"" + email
+                + "\",\"userRole\":\"" + userRole
+                + "\",\"exp\":" + expiresAtSeconds
+                + ",\"iat\":" + issuedAtSeconds + "}";
+
+        String signingInput = HEADER_SEGMENT + '.'
+                + BASE64_URL_ENCODER.encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+        byte[] signature = mac.get().doFinal(signingInput.getBytes(StandardCharsets.US_ASCII));
+
+        return signingInput + '.' + BASE64_URL_ENCODER.encodeToString(signature);
+    }
+
+    /**
+     * 서명을 먼저 상수 시간 비교로 검증한 뒤에만 페이로드를 해석합니다.
+     */
+    VerifiedToken decode(String token, long nowMillis) {
+        int headerEnd = HEADER_SEGMENT.length();
+        if (token.length() <= headerEnd || token.charAt(headerEnd) != '.'
+                || !token.startsWith(HEADER_SEGMENT)) {
+            return null;
+        }
+
+        int payloadEnd = token.indexOf('.', headerEnd + 1);
+        if (payloadEnd < 0 || token.indexOf('.', payloadEnd + 1) >= 0) {
+            return null;
+        }
+
+        byte[] tokenBytes = token.getBytes(StandardCharsets.US_ASCII);
+        try {
+            Mac hmac = mac.get();
+            hmac.update(tokenBytes, 0, payloadEnd);
+            byte[] expected = hmac.doFinal();
+            byte[] actual = decodeSegment(tokenBytes, payloadEnd + 1, tokenBytes.length);
+            if (!MessageDigest.isEqual(expected, actual)) {
+                return null;
+            }
+
+            byte[] payload = decodeSegment(tokenBytes, headerEnd + 1, payloadEnd);
+            return parsePayload(payload, nowMillis);
+        } catch (IllegalArgumentException e) {
+            // Base64URL 이 아닌 경우
+            return null;
+        }
+    }
+
+    private static byte[] decodeSegment(byte[] source, int from, int to) {
+        ByteBuffer decoded = BASE64_URL_DECODER.decode(ByteBuffer.wrap(source, from, to - from));
+        byte[] bytes = new byte[decoded.remaining()];
+        decoded.get(bytes);
+        return bytes;
+    }
+
+    // 문자열/정수 값만 가진 평평한 JSON 객체를 읽습니다. 이스케이프, 중첩, 모르는 키가 있으면 null 을 반환합니다.
+    private static VerifiedToken parsePayload(byte[] json, long nowMillis) {
+        String sub = null;
+        String email = null;
+        String userRole = null;
+        long exp = -1;
+        long iat = -1;
+
+        int i = skipWhitespace(json, 0);
+        if (i >= json.length || json[i] != '{') {
+            return null;
+        }
+        i = skipWhitespace(json, i + 1);
+
+        while (i < json.length && json[i] == '"') {
+            int keyStart = i + 1;
+            int keyEnd = indexOfQuote(json, keyStart);
+            if (keyEnd < 0) {
+                return null;
+            }
+
+            i = skipWhitespace(json, keyEnd + 1);
+            if (i >= json.length || json[i] != ':') {
+                return null;
+            }
+            i = skipWhitespace(json, i + 1);
+            if (i >= json.length) {
+                return null;
+            }
+
+            if (json[i] == '"') {
+                int valueStart = i + 1;
+                int valueEnd = indexOfQuote(json, valueStart);
+                if (valueEnd < 0) {
+                    return null;
+                }
+                String value = new String(json, valueStart, valueEnd - valueStart, StandardCharsets.UTF_8);
+
+                if (sub == null && matches(json, keyStart, keyEnd, SUB)) {
+                    sub = value;
+                } else if (email == null && matches(json, keyStart, keyEnd, EMAIL)) {
+                    email = value;
+                } else if (userRole == null && matches(json, keyStart, keyEnd, USER_ROLE)) {
+                    userRole = value;
+                } else {
+                    return null;
+                }
+                i = valueEnd + 1;
+            } else {
+                int numberEnd = i;
+                long number = 0;
+                while (numberEnd < json.length && json[numberEnd] >= '0' && json[numberEnd] <= '9'
+                        && numberEnd - i < 18) {
+                    number = number * 10 + (json[numberEnd] - '0');
+                    numberEnd++;
+                }
+                if (numberEnd == i) {
+                    return null;
+                }
+
+                if (exp < 0 && matches(json, keyStart, keyEnd, EXP)) {
+                    exp = number;
+                } else if (iat < 0 && matches(json, keyStart, keyEnd, IAT)) {
+                    iat = number;
+                } else {
+                    return null;
+                }
+                i = numberEnd;
+            }
+
+            i = skipWhitespace(json, i);
+            if (i < json.length && json[i] == ',') {
+                i = skipWhitespace(json, i + 1);
+            } else {
+                break;
+            }
+        }
+
+        if (i >= json.length || json[i] != '}' || skipWhitespace(json, i + 1) != json.length) {
+            return null;
+        }
+        if (sub == null || email == null || userRole == null || exp < 0 || !isDigits(sub)) {
+            return null;
+        }
+        // 만료된 토큰은 jjwt 가 ExpiredJwtException 으로 처리하도록 넘깁니다.
+        long expiresAtMillis = exp * 1000;
+        if (nowMillis > expiresAtMillis) {
+            return null;
+        }
+
+        return new VerifiedToken(Long.parseLong(sub), email, userRole, expiresAtMillis);
+    }
+
+    private static int indexOfQuote(byte[] json, int from) {
+        for (int i = from; i < json.length; i++) {
+            if (json[i] == '\\') {
+                return -1;
+            }
+            if (json[i] == '"') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int skipWhitespace(byte[] json, int from) {
+        int i = from;
+        while (i < json.length && (json[i] == ' ' || json[i] == '\t' || json[i] == '\n' || json[i] == '\r')) {
+            i++;
+        }
+        return i;
+    }
+
+    private static boolean matches(byte[] json, int from, int to, byte[] expected) {
+        if (to - from != expected.length) {
+            return false;
+        }
+        for (int i = 0; i < expected.length; i++) {
+            if (json[from + i] != expected[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isDigits(String value) {
+        if (value.isEmpty() || value.length() > 18) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) < '0' || value.charAt(i) > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isPlainJsonString(String value) {
+        if (value == null) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x20 || c == '"' || c == '\\') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+}
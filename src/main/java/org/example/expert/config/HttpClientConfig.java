@@ -0,0 +1,141 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.ManagedHttpClientConnectionFactory;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.io.ManagedHttpClientConnection;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.io.HttpConnectionFactory;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.boot.autoconfigure.web.client.RestTemplateBuilderConfigurer;
+import org.springframework.boot.web.client.ClientHttpRequestFactorySettings;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+import java.time.Duration;
+
+/**
+ * org.example.expert.client 의 외부 호출 클라이언트들이 함께 쓰는 keep-alive 커넥션 풀입니다.
+ * RestTemplateBuilder 로 만든 RestTemplate 은 모두 같은 풀을 공유하고, 타임아웃만 클라이언트별로 적용됩니다.
+ */
+@Configuration
+public class HttpClientConfig {
+
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager httpClientConnectionManager(
+            HttpClientProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        Counter createdConnections = Counter.builder("http.client.connections.created")
+                .description("새로 연결한 물리 커넥션 수")
+                .register(meterRegistry);
+
+        HttpConnectionFactory<ManagedHttpClientConnection> connectionFactory = socket -> {
+            createdConnections.increment();
+            return ManagedHttpClientConnectionFactory.INSTANCE.createConnection(socket);
+        };
+
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setConnectionFactory(connectionFactory)
+                .setMaxConnTotal(properties.getMaxTotal())
+                .setMaxConnPerRoute(properties.getDefaultMaxPerRoute())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setTimeToLive(toTimeValue(properties.getTimeToLive()))
+                        .setValidateAfterInactivity(toTimeValue(properties.getValidateAfterInactivity()))
+                        .build())
+                .build();
+
+        // 풀의 키는 라우트 플래너가 만든 HttpRoute 입니다. https 는 secure + layered 라우트이므로 같은 모양으로 만들어야 일치합니다.
+        properties.getMaxPerRoute().forEach((host, max) -> {
+            connectionManager.setMaxPerRoute(new HttpRoute(new HttpHost("https", host, 443), null, true), max);
+            connectionManager.setMaxPerRoute(new HttpRoute(new HttpHost("http", host, 80)), max);
+        });
+
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "outbound").bindTo(meterRegistry);
+
+        return connectionManager;
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient httpClient(
+            PoolingHttpClientConnectionManager connectionManager,
+            HttpClientProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        Counter requests = Counter.builder("http.client.pooled.requests")
+                .description("공유 커넥션 풀을 통해 보낸 요청 수")
+                .register(meterRegistry);
+        Counter createdConnections = meterRegistry.get("http.client.connections.created").counter();
+
+        // 요청 수 대비 새 커넥션 수로 재사용률을 계산합니다.
+        FunctionCounter.builder("http.client.connections.reused", requests,
+                        counter -> Math.max(0, counter.count() - createdConnections.count()))
+                .description("기존 커넥션을 재사용한 요청 수")
+                .register(meterRegistry);
+
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .addRequestInterceptorFirst((request, entity, context) -> requests.increment())
+                .evictExpiredConnections()
+                .evictIdleConnections(toTimeValue(properties.getIdleEvictionTimeout()))
+                .build();
+    }
+
+    @Bean
+    public RestTemplateBuilder restTemplateBuilder(
+            RestTemplateBuilderConfigurer configurer,
+            CloseableHttpClient httpClient,
+            HttpClientProperties properties
+    ) {
+        return configurer.configure(new RestTemplateBuilder())
+                .requestFactory(settings -> pooledRequestFactory(httpClient, properties, settings));
+    }
+
+    // 공유 클라이언트를 감싸는 팩토리는 RestTemplate 마다 새로 만들어 타임아웃이 서로 섞이지 않게 합니다.
+    // 연결 타임아웃을 클라이언트별로 주려면 RequestConfig 의 (deprecated) connectTimeout 을 써야 합니다.
+    @SuppressWarnings("deprecation")
+    private static HttpComponentsClientHttpRequestFactory pooledRequestFactory(
+            CloseableHttpClient httpClient,
+            HttpClientProperties properties,
+            ClientHttpRequestFactorySettings settings
+    ) {
+        RequestConfig.Builder requestConfig = RequestConfig.custom()
+                .setConnectionRequestTimeout(toTimeout(properties.getConnectionRequestTimeout()));
+        if (settings.connectTimeout() != null) {
+            requestConfig.setConnectTimeout(toTimeout(settings.connectTimeout()));
+        }
+        if (settings.readTimeout() != null) {
+            requestConfig.setResponseTimeout(toTimeout(settings.readTimeout()));
+        }
+        RequestConfig config = requestConfig.build();
+
+        HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(httpClient);
+        requestFactory.setHttpContextFactory((method, uri) -> {
+            HttpClientContext context = HttpClientContext.create();
+            context.setRequestConfig(config);
+            return context;
+        });
+        return requestFactory;
+    }
+
+    private static TimeValue toTimeValue(Duration duration) {
+        return TimeValue.ofMilliseconds(duration.toMillis());
+    }
+
+    private static Timeout toTimeout(Duration duration) {
+        return Timeout.ofMilliseconds(duration.toMillis());
+    }
+}
@@ -0,0 +1,26 @@
+package org.example.expert.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "http-client")
+public class HttpClientProperties {
+
+    private int maxTotal = 50;
+    private int defaultMaxPerRoute = 10;
+    // 호스트별 최대 커넥션 수 (예: f-api.github.io: 4)
+    private Map<String, Integer> maxPerRoute = new HashMap<>();
+
+    // 커넥션 풀에서 커넥션을 빌려 오기까지 기다리는 최대 시간
+    private Duration connectionRequestTimeout = Duration.ofSeconds(1);
+    private Duration idleEvictionTimeout = Duration.ofSeconds(30);
+    private Duration timeToLive = Duration.ofMinutes(5);
+    private Duration validateAfterInactivity = Duration.ofSeconds(2);
+}
@@ -2,6 +2,7 @@ package org.example.expert.config;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
@@ -26,17 +27,27 @@ public class JwtUtil {
     @Value("${jwt.secret.key}")
     private String secretKey;
     private Key key;
+    private Hs256TokenCodec tokenCodec;
     private final SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.HS256;
 
     @PostConstruct
     public void init() {
         byte[] bytes = Base64.getDecoder().decode(secretKey);
         key = Keys.hmacShaKeyFor(bytes);
+        tokenCodec = new Hs256TokenCodec(key.getEncoded());
     }
 
     public String createToken(Long userId, String email, UserRole userRole) {
         Date date = new Date();
 
+        if (userId != null && userRole != null) {
+            long issuedAt = date.getTime() / 1000;
+            String token = tokenCodec.encode(userId, email, userRole.name(), issuedAt, (date.getTime() + TOKEN_TIME) / 1000);
+            if (token != null) {
+                return BEARER_PREFIX + token;
+            }
+        }
+
         return BEARER_PREFIX +
                 Jwts.builder()
                         .setSubject(String.valueOf(userId))
@@ -55,6 +66,29 @@ public class JwtUtil {
         throw new ServerException("Not Found Token");
     }
 
+    /**
+     * 이 서비스가 발급한 모양의 토큰은 전용 경로로 검증하고, 그 외의 토큰과 실패한 토큰은 jjwt 로 다시 검증합니다.
+     * 예외 종류는 항상 jjwt 가 결정합니다.
+     */
+    public VerifiedToken verify(String token) {
+        VerifiedToken verifiedToken = tokenCodec.decode(token, System.currentTimeMillis());
+        if (verifiedToken != null) {
+            return verifiedToken;
+        }
+
+        Claims claims = extractClaims(token);
+        // jjwt 는 exp 가 없어도 서명만 맞으면 통과시키므로, 만료 없는 토큰은 서명이 틀린 토큰과 같이 거부합니다.
+        if (claims.getExpiration() == null) {
+            throw new MalformedJwtException("exp 클레임이 없는 JWT 토큰입니다.");
+        }
+        return new VerifiedToken(
+                Long.parseLong(claims.getSubject()),
+                claims.get("email", String.class),
+                claims.get("userRole", String.class),
+                claims.getExpiration().getTime()
+        );
+    }
+
     public Claims extractClaims(String token) {
         return Jwts.parserBuilder()
                 .setSigningKey(key)
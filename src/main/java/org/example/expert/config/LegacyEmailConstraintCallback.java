@@ -0,0 +1,94 @@
+package org.example.expert.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.user.entity.User;
+import org.flywaydb.core.api.FlywayException;
+import org.flywaydb.core.api.MigrationVersion;
+import org.flywaydb.core.api.callback.Callback;
+import org.flywaydb.core.api.callback.Context;
+import org.flywaydb.core.api.callback.Event;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hibernate 가 만든 스키마를 V1 기준선으로 받은 DB 에는 예전 매핑(@Column(unique = true))으로 생긴 이름 없는 유니크 제약이 users.email 에 이미 있습니다.
+ * V2 가 uk_users_email 을 만들면 같은 컬럼에 유니크 인덱스가 두 개가 되므로, V2 직전에 기존 제약을 지워 uk_users_email 하나만 남깁니다.
+ * 가입 시 중복 이메일도 이 이름으로 구분하므로 이름이 하나로 맞아야 합니다.
+ * 마이그레이션으로 처음부터 만든 DB 에는 지울 제약이 없어 아무것도 하지 않습니다.
+ */
+@Slf4j(topic = "LegacyEmailConstraintCallback")
+@Component
+public class LegacyEmailConstraintCallback implements Callback {
+
+    private static final MigrationVersion INDEX_MIGRATION = MigrationVersion.fromVersion("2");
+
+    // 한 컬럼(email)만으로 된 users 의 유니크 제약입니다. MySQL 은 스키마가 catalog 로, H2 는 schema 로 보입니다.
+    private static final String FIND_EMAIL_CONSTRAINTS =
+            "SELECT tc.CONSTRAINT_NAME FROM INFORMATION_SCHEMA.TABLE_CONSTRAINTS tc " +
+            "JOIN INFORMATION_SCHEMA.KEY_COLUMN_USAGE k " +
+            "ON k.CONSTRAINT_SCHEMA = tc.CONSTRAINT_SCHEMA AND k.CONSTRAINT_NAME = tc.CONSTRAINT_NAME " +
+            "AND k.TABLE_NAME = tc.TABLE_NAME " +
+            "WHERE tc.TABLE_SCHEMA IN (?, ?) AND LOWER(tc.TABLE_NAME) = 'users' AND tc.CONSTRAINT_TYPE = 'UNIQUE' " +
+            "GROUP BY tc.CONSTRAINT_NAME " +
+            "HAVING COUNT(*) = 1 AND LOWER(MAX(k.COLUMN_NAME)) = 'email'";
+
+    @Override
+    public boolean supports(Event event, Context context) {
+        return event == Event.BEFORE_EACH_MIGRATE
+                && context.getMigrationInfo() != null
+                && INDEX_MIGRATION.equals(context.getMigrationInfo().getVersion());
+    }
+
+    @Override
+    public boolean canHandleInTransaction(Event event, Context context) {
+        return true;
+    }
+
+    @Override
+    public void handle(Event event, Context context) {
+        Connection connection = context.getConnection();
+        try {
+            String quote = connection.getMetaData().getIdentifierQuoteString();
+            // MySQL 의 유니크 제약은 인덱스이므로 DROP INDEX 로, 그 밖의 DB 는 DROP CONSTRAINT 로 지웁니다.
+            String dropClause = connection.getMetaData().getDatabaseProductName().equalsIgnoreCase("MySQL")
+                    ? " DROP INDEX " : " DROP CONSTRAINT ";
+            for (String name : findEmailConstraints(connection)) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("ALTER TABLE users" + dropClause + quote + name + quote);
+                }
+                log.info("V2 의 uk_users_email 로 대신하기 위해 users.email 의 기존 유니크 제약 {} 을(를) 지웠습니다.", name);
+            }
+        } catch (SQLException e) {
+            throw new FlywayException("users.email 의 기존 유니크 제약을 정리하지 못했습니다.", e);
+        }
+    }
+
+    @Override
+    public String getCallbackName() {
+        return "legacyEmailConstraint";
+    }
+
+    private static List<String> findEmailConstraints(Connection connection) throws SQLException {
+        List<String> names = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement(FIND_EMAIL_CONSTRAINTS)) {
+            statement.setString(1, connection.getCatalog());
+            statement.setString(2, connection.getSchema());
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    String name = rs.getString(1);
+                    if (!name.equalsIgnoreCase(User.EMAIL_UNIQUE_CONSTRAINT)) {
+                        names.add(name);
+                    }
+                }
+            }
+        }
+        return names;
+    }
+}
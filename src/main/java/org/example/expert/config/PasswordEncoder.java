@@ -1,17 +1,125 @@
 package org.example.expert.config;
 
 import at.favre.lib.crypto.bcrypt.BCrypt;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
+/**
+ * BCrypt 비용(cost)은 기동 시 실제 하드웨어에서 해시 한 번이 목표 시간(password-hash.target-latency)을
+ * 넘지 않는 가장 큰 값으로 정합니다. password-hash.cost 를 지정하면 측정하지 않고 그 값을 씁니다.
+ */
+@Slf4j(topic = "PasswordEncoder")
 @Component
 public class PasswordEncoder {
 
+    private static final char[] CALIBRATION_PASSWORD = "calibration-password".toCharArray();
+
+    private final PasswordHashExecutor passwordHashExecutor;
+    private final int cost;
+    private final double calibratedMillis;
+
+    @Autowired
+    public PasswordEncoder(
+            PasswordHashExecutor passwordHashExecutor,
+            @Value("${password-hash.cost:0}") int cost,
+            @Value("${password-hash.min-cost:4}") int minCost,
+            @Value("${password-hash.max-cost:14}") int maxCost,
+            @Value("${password-hash.target-latency:100ms}") Duration targetLatency,
+            MeterRegistry meterRegistry
+    ) {
+        this.passwordHashExecutor = passwordHashExecutor;
+        if (cost > 0) {
+            measureMillis(cost); // JIT 예열
+            this.cost = cost;
+            this.calibratedMillis = measureMillis(cost);
+        } else {
+            Calibration calibration = calibrate(minCost, maxCost, targetLatency);
+            this.cost = calibration.cost();
+            this.calibratedMillis = calibration.millis();
+        }
+        log.info("BCrypt cost = {} ({} ms/hash)", this.cost, String.format("%.1f", calibratedMillis));
+
+        Gauge.builder("password.hash.cost", () -> this.cost)
+                .description("현재 사용하는 BCrypt 비용")
+                .register(meterRegistry);
+        Gauge.builder("password.hash.calibrated", () -> calibratedMillis)
+                .description("기동 시 측정한 해시 한 번의 시간")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    PasswordEncoder(PasswordHashExecutor passwordHashExecutor, int cost) {
+        this.passwordHashExecutor = passwordHashExecutor;
+        this.cost = cost;
+        this.calibratedMillis = 0;
+    }
+
     public String encode(String rawPassword) {
-        return BCrypt.withDefaults().hashToString(BCrypt.MIN_COST, rawPassword.toCharArray());
+        return passwordHashExecutor.execute("encode",
+                () -> BCrypt.withDefaults().hashToString(cost, rawPassword.toCharArray()));
     }
 
     public boolean matches(String rawPassword, String encodedPassword) {
-        BCrypt.Result result = BCrypt.verifyer().verify(rawPassword.toCharArray(), encodedPassword);
-        return result.verified;
+        return passwordHashExecutor.execute("matches", () -> {
+            BCrypt.Result result = BCrypt.verifyer().verify(rawPassword.toCharArray(), encodedPassword);
+            return result.verified;
+        });
+    }
+
+    /**
+     * 저장된 해시의 비용이 현재 비용과 다르면 true 를 반환합니다. 로그인 성공 직후 다시 해시할 때 사용합니다.
+     */
+    public boolean needsRehash(String encodedPassword) {
+        // $2a$10$... 형식
+        if (encodedPassword == null || encodedPassword.length() < 7
+                || encodedPassword.charAt(0) != '$' || encodedPassword.charAt(3) != '$'
+                || encodedPassword.charAt(6) != '$') {
+            return false;
+        }
+
+        char tens = encodedPassword.charAt(4);
+        char ones = encodedPassword.charAt(5);
+        if (tens < '0' || tens > '9' || ones < '0' || ones > '9') {
+            return false;
+        }
+        return (tens - '0') * 10 + (ones - '0') != cost;
+    }
+
+    public int getCost() {
+        return cost;
+    }
+
+    // 비용을 1 올릴 때마다 시간이 두 배가 되므로, 다음 비용이 목표를 넘을 것으로 보이면 멈춥니다.
+    private static Calibration calibrate(int minCost, int maxCost, Duration targetLatency) {
+        double targetMillis = targetLatency.toNanos() / 1_000_000.0;
+        measureMillis(minCost); // JIT 예열
+
+        int cost = minCost;
+        double millis = measureMillis(cost);
+        while (cost < maxCost && millis * 2 <= targetMillis) {
+            cost++;
+            millis = measureMillis(cost);
+        }
+        return new Calibration(cost, millis);
+    }
+
+    // GC 나 스케줄링 지연에 덜 흔들리도록 두 번 재서 짧은 쪽을 씁니다.
+    private static double measureMillis(int cost) {
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < 2; i++) {
+            long start = System.nanoTime();
+            BCrypt.withDefaults().hash(cost, CALIBRATION_PASSWORD);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best / 1_000_000.0;
+    }
+
+    private record Calibration(int cost, double millis) {
     }
 }
@@ -0,0 +1,102 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * BCrypt 해싱 전용 스레드 풀입니다.
+ * 동시에 해싱하는 스레드 수와 대기열을 제한해 로그인이 몰려도 Tomcat 워커가 CPU 작업에 묶이지 않게 하고,
+ * 대기열이 가득 차면 기다리지 않고 503 으로 거절합니다.
+ */
+@Component
+public class PasswordHashExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final Duration waitTimeout;
+    private final MeterRegistry meterRegistry;
+
+    public PasswordHashExecutor(
+            @Value("${password-hash.threads:2}") int threads,
+            @Value("${password-hash.queue-capacity:64}") int queueCapacity,
+            @Value("${password-hash.wait-timeout:5s}") Duration waitTimeout,
+            MeterRegistry meterRegistry
+    ) {
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.waitTimeout = waitTimeout;
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder("password.hash.queued", executor, e -> e.getQueue().size())
+                .description("BCrypt 작업 대기열 길이")
+                .register(meterRegistry);
+        Gauge.builder("password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("실행 중인 BCrypt 작업 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 해싱 작업을 전용 풀에서 실행하고 결과를 기다립니다. 실행 시간은 password.hash{operation} 타이머에 기록됩니다.
+     */
+    public <T> T execute(String operation, Callable<T> task) {
+        Timer timer = Timer.builder("password.hash")
+                .description("BCrypt 해싱/검증 시간")
+                .tag("operation", operation)
+                .register(meterRegistry);
+
+        Future<T> future;
+        try {
+            future = executor.submit(() -> timer.recordCallable(task));
+        } catch (RejectedExecutionException e) {
+            throw new ServiceUnavailableException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.");
+        }
+
+        try {
+            return future.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new ServiceUnavailableException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new ServerException("비밀번호 처리에 실패했습니다. " + e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServerException("비밀번호 처리가 중단되었습니다.");
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,108 @@
+package org.example.expert.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 기동 후 조회 쿼리가 기대하는 인덱스가 실제 DB 에 있는지 확인하고, 없으면 경고를 남깁니다.
+ * 이름이 아니라 컬럼 순서로 비교하므로, 같은 컬럼으로 시작하는 인덱스가 있으면 있는 것으로 봅니다.
+ */
+@Slf4j(topic = "SchemaIndexVerifier")
+@Component
+@RequiredArgsConstructor
+public class SchemaIndexVerifier {
+
+    // db/migration 의 CREATE INDEX 와 같은 목록입니다.
+    static final List<ExpectedIndex> EXPECTED_INDEXES = List.of(
+            new ExpectedIndex("users", true, "email"),
+            new ExpectedIndex("todos", false, "modified_at", "id"),
+            new ExpectedIndex("todos", false, "user_id"),
+            new ExpectedIndex("comments", false, "todo_id", "id"),
+            new ExpectedIndex("managers", false, "todo_id", "user_id"),
+            new ExpectedIndex("managers", false, "user_id"),
+            new ExpectedIndex("todo_tombstones", false, "deleted_at", "todo_id")
+    );
+
+    private final DataSource dataSource;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void verify() {
+        try {
+            for (ExpectedIndex missing : findMissingIndexes()) {
+                log.warn("인덱스가 없습니다: {} - 조회가 전체 스캔으로 바뀔 수 있습니다.", missing);
+            }
+        } catch (SQLException e) {
+            log.warn("인덱스를 확인하지 못했습니다.", e);
+        }
+    }
+
+    public List<ExpectedIndex> findMissingIndexes() throws SQLException {
+        List<ExpectedIndex> missing = new ArrayList<>();
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            for (ExpectedIndex expected : EXPECTED_INDEXES) {
+                if (!exists(metaData, connection.getCatalog(), connection.getSchema(), expected)) {
+                    missing.add(expected);
+                }
+            }
+        }
+        return missing;
+    }
+
+    private static boolean exists(DatabaseMetaData metaData, String catalog, String schema, ExpectedIndex expected)
+            throws SQLException {
+        // 인덱스 이름 → (순서 → 컬럼)
+        Map<String, Map<Short, String>> columnsByIndex = new TreeMap<>();
+        Map<String, Boolean> uniqueByIndex = new TreeMap<>();
+        try (ResultSet rs = metaData.getIndexInfo(catalog, schema, expected.table(), false, false)) {
+            while (rs.next()) {
+                String indexName = rs.getString("INDEX_NAME");
+                String columnName = rs.getString("COLUMN_NAME");
+                if (indexName == null || columnName == null) {
+                    continue;
+                }
+                columnsByIndex.computeIfAbsent(indexName, key -> new TreeMap<>())
+                        .put(rs.getShort("ORDINAL_POSITION"), columnName.toLowerCase(Locale.ROOT));
+                uniqueByIndex.put(indexName, !rs.getBoolean("NON_UNIQUE"));
+            }
+        }
+
+        for (Map.Entry<String, Map<Short, String>> index : columnsByIndex.entrySet()) {
+            List<String> columns = List.copyOf(index.getValue().values());
+            boolean prefixMatches = columns.size() >= expected.columns().size()
+                    && columns.subList(0, expected.columns().size()).equals(expected.columns());
+            boolean uniqueMatches = !expected.unique()
+                    || (uniqueByIndex.get(index.getKey()) && columns.size() == expected.columns().size());
+            if (prefixMatches && uniqueMatches) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public record ExpectedIndex(String table, boolean unique, List<String> columns) {
+
+        ExpectedIndex(String table, boolean unique, String... columns) {
+            this(table, unique, List.of(columns));
+        }
+
+        @Override
+        public String toString() {
+            return (unique ? "UNIQUE " : "") + table + "(" + String.join(", ", columns) + ")";
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package org.example.expert.config;
+
+import lombok.Getter;
+
+/**
+ * 서명 검증을 마친 JWT 에서 꺼낸 값입니다.
+ */
+@Getter
+public class VerifiedToken {
+
+    private final Long userId;
+    private final String email;
+    private final String userRole;
+    private final long expiresAtMillis;
+
+    public VerifiedToken(Long userId, String email, String userRole, long expiresAtMillis) {
+        this.userId = userId;
+        this.email = email;
+        this.userRole = userRole;
+        this.expiresAtMillis = expiresAtMillis;
+    }
+}
@@ -0,0 +1,97 @@
+package org.example.expert.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.function.Function;
+
+/**
+ * 서명 검증이 끝난 토큰을 토큰 다이제스트(SHA-256)를 키로 보관합니다.
+ * 같은 토큰으로 다시 요청하면 서명 검증과 JSON 파싱을 건너뜁니다.
+ * 항목은 늦어도 토큰의 exp 시각에 만료됩니다.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    private final Cache<String, VerifiedToken> cache;
+
+    @Autowired
+    public VerifiedTokenCache(
+            @Value("${jwt.cache.maximum-size:10000}") long maximumSize,
+            @Value("${jwt.cache.max-ttl:1h}") Duration maxTtl,
+            MeterRegistry meterRegistry
+    ) {
+        this(maximumSize, maxTtl, meterRegistry, Ticker.systemTicker(), Clock.systemUTC());
+    }
+
+    VerifiedTokenCache(long maximumSize, Duration maxTtl, MeterRegistry meterRegistry, Ticker ticker, Clock clock) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new TokenExpiry(maxTtl, clock))
+                .ticker(ticker)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwtVerifiedTokens");
+    }
+
+    public VerifiedToken get(String token, Function<String, VerifiedToken> verifier) {
+        return cache.get(digest(token), key -> verifier.apply(token));
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    private static String digest(String token) {
+        byte[] hash = SHA_256.get().digest(token.getBytes(StandardCharsets.US_ASCII));
+        return Base64.getEncoder().encodeToString(hash);
+    }
+
+    private static class TokenExpiry implements Expiry<String, VerifiedToken> {
+
+        private final long maxTtlNanos;
+        private final Clock clock;
+
+        TokenExpiry(Duration maxTtl, Clock clock) {
+            this.maxTtlNanos = maxTtl.toNanos();
+            this.clock = clock;
+        }
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            long untilExpiration = Duration.ofMillis(value.getExpiresAtMillis() - clock.millis()).toNanos();
+            return Math.max(0, Math.min(untilExpiration, maxTtlNanos));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
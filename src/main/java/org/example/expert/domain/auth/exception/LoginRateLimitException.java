@@ -0,0 +1,14 @@
+package org.example.expert.domain.auth.exception;
+
+import lombok.Getter;
+
+@Getter
+public class LoginRateLimitException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public LoginRateLimitException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
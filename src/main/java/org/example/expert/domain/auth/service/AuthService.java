@@ -12,8 +12,10 @@ import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.user.service.EmailBloomFilter;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
@@ -22,14 +24,11 @@ public class AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
+    private final EmailBloomFilter emailBloomFilter;
 
-    @Transactional
+    // bcrypt 해시는 느리고 해시 스레드 풀 대기까지 더해질 수 있으므로, 커넥션을 잡기 전에 끝내고 saveAndFlush 만 트랜잭션으로 실행합니다.
     public SignupResponse signup(SignupRequest signupRequest) {
 
-        if (userRepository.existsByEmail(signupRequest.getEmail())) {
-            throw new InvalidRequestException("이미 존재하는 이메일입니다.");
-        }
-
         String encodedPassword = passwordEncoder.encode(signupRequest.getPassword());
 
         UserRole userRole = UserRole.of(signupRequest.getUserRole());
@@ -39,15 +38,42 @@ public class AuthService {
                 encodedPassword,
                 userRole
         );
-        User savedUser = userRepository.save(newUser);
+        // 중복 확인은 users.email 유니크 인덱스에 맡기고 INSERT 한 번으로 끝냅니다.
+        User savedUser;
+        try {
+            savedUser = userRepository.saveAndFlush(newUser);
+        } catch (DataIntegrityViolationException e) {
+            if (isDuplicateEmail(e)) {
+                throw new InvalidRequestException("이미 존재하는 이메일입니다.");
+            }
+            throw e;
+        }
+        emailBloomFilter.put(savedUser.getEmail());
 
         String bearerToken = jwtUtil.createToken(savedUser.getId(), savedUser.getEmail(), userRole);
 
         return new SignupResponse(bearerToken);
     }
 
-    @Transactional(readOnly = true)
+    // 다른 컬럼의 제약 위반까지 중복 이메일로 알리지 않도록 위반한 제약 이름을 확인합니다.
+    // 제약 이름은 DB 에 따라 "users.uk_users_email", "public.uk_users_email" 처럼 앞에 테이블이나 스키마가 붙습니다.
+    private static boolean isDuplicateEmail(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                String name = violation.getConstraintName();
+                return name.substring(name.lastIndexOf('.') + 1).equalsIgnoreCase(User.EMAIL_UNIQUE_CONSTRAINT);
+            }
+        }
+        return false;
+    }
+
+    // 트랜잭션을 열면 커넥션을 먼저 잡으므로, Bloom filter 로 거를 수 있는 요청은 트랜잭션 없이 끝냅니다.
     public SigninResponse signin(SigninRequest signinRequest) {
+        // Bloom filter 에 없으면 가입되지 않은 이메일이 확실하므로 DB 를 조회하지 않습니다.
+        if (!emailBloomFilter.mightContain(signinRequest.getEmail())) {
+            throw new InvalidRequestException("가입되지 않은 유저입니다.");
+        }
+
         User user = userRepository.findByEmail(signinRequest.getEmail()).orElseThrow(
                 () -> new InvalidRequestException("가입되지 않은 유저입니다."));
 
@@ -56,6 +82,12 @@ public class AuthService {
             throw new AuthException("잘못된 비밀번호입니다.");
         }
 
+        // 현재 비용과 다른 비용으로 저장된 해시는 평문을 알고 있는 지금 다시 해시합니다.
+        if (passwordEncoder.needsRehash(user.getPassword())) {
+            user.changePassword(passwordEncoder.encode(signinRequest.getPassword()));
+            userRepository.save(user);
+        }
+
         String bearerToken = jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole());
 
         return new SigninResponse(bearerToken);
@@ -0,0 +1,103 @@
+package org.example.expert.domain.auth.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.expert.domain.auth.exception.LoginRateLimitException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 로그인 시도를 이메일별, 클라이언트 IP별 토큰 버킷으로 제한합니다.
+ * DB 조회와 BCrypt 검증보다 먼저 호출되어야 하며, 한도를 넘으면 LoginRateLimitException(429)을 던집니다.
+ * 버킷은 키 개수 상한과 유휴 만료가 있는 Caffeine 캐시에 보관하므로 메모리가 무한히 늘지 않습니다.
+ */
+@Component
+public class LoginRateLimiter {
+
+    private final Ticker ticker;
+    private final Limit emailLimit;
+    private final Limit ipLimit;
+
+    @Autowired
+    public LoginRateLimiter(
+            @Value("${login-rate-limit.email.capacity:5}") int emailCapacity,
+            @Value("${login-rate-limit.email.refill-period:1m}") Duration emailRefillPeriod,
+            @Value("${login-rate-limit.ip.capacity:20}") int ipCapacity,
+            @Value("${login-rate-limit.ip.refill-period:1m}") Duration ipRefillPeriod,
+            @Value("${login-rate-limit.maximum-keys:100000}") long maximumKeys,
+            MeterRegistry meterRegistry
+    ) {
+        this(emailCapacity, emailRefillPeriod, ipCapacity, ipRefillPeriod, maximumKeys, meterRegistry, Ticker.systemTicker());
+    }
+
+    LoginRateLimiter(int emailCapacity, Duration emailRefillPeriod, int ipCapacity, Duration ipRefillPeriod,
+                     long maximumKeys, MeterRegistry meterRegistry, Ticker ticker) {
+        this.ticker = ticker;
+        this.emailLimit = new Limit(emailCapacity, emailRefillPeriod, maximumKeys, ticker,
+                meterRegistry.counter("auth.signin.throttled", "key", "email"));
+        this.ipLimit = new Limit(ipCapacity, ipRefillPeriod, maximumKeys, ticker,
+                meterRegistry.counter("auth.signin.throttled", "key", "ip"));
+    }
+
+    public void acquire(String email, String clientIp) {
+        long now = ticker.read();
+
+        if (clientIp != null) {
+            ipLimit.acquire(clientIp, now);
+        }
+        if (email != null) {
+            emailLimit.acquire(email.trim().toLowerCase(Locale.ROOT), now);
+        }
+    }
+
+    /**
+     * GCRA 방식의 토큰 버킷입니다. 키마다 "다음 토큰이 생기는 이론상 시각" 하나만 AtomicLong 에 두고 CAS 로 갱신하므로
+     * 락이 없습니다. capacity 번까지는 연속으로 허용하고, 그 뒤로는 refillPeriod / capacity 마다 한 번씩 허용합니다.
+     */
+    private static final class Limit {
+
+        private final Cache<String, AtomicLong> buckets;
+        private final long intervalNanos;
+        private final long burstNanos;
+        private final Counter rejections;
+
+        Limit(int capacity, Duration refillPeriod, long maximumKeys, Ticker ticker, Counter rejections) {
+            this.intervalNanos = refillPeriod.toNanos() / capacity;
+            this.burstNanos = intervalNanos * capacity;
+            this.rejections = rejections;
+            this.buckets = Caffeine.newBuilder()
+                    .maximumSize(maximumKeys)
+                    // 이만큼 쉬면 버킷이 가득 찬 상태와 같으므로 버려도 됩니다.
+                    .expireAfterAccess(refillPeriod)
+                    .ticker(ticker)
+                    .build();
+        }
+
+        void acquire(String key, long now) {
+            AtomicLong theoreticalArrival = buckets.get(key, k -> new AtomicLong(now));
+
+            while (true) {
+                long current = theoreticalArrival.get();
+                long next = Math.max(current, now) + intervalNanos;
+                long waitNanos = next - now - burstNanos;
+                if (waitNanos > 0) {
+                    rejections.increment();
+                    throw new LoginRateLimitException("로그인 시도가 너무 많습니다. 잠시 후 다시 시도해 주세요.",
+                            Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1)));
+                }
+                if (theoreticalArrival.compareAndSet(current, next)) {
+                    return;
+                }
+            }
+        }
+    }
+}
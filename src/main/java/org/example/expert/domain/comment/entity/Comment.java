@@ -13,7 +13,11 @@ import org.example.expert.domain.user.entity.User;
 @Table(name = "comments")
 public class Comment extends Timestamped {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // 가져오기에서 댓글을 배치 INSERT 할 수 있도록 할 일과 같이 id_generators 테이블에서 id 를 받습니다.
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "comment_id")
+    @TableGenerator(name = "comment_id", table = "id_generators", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "comments", allocationSize = 100)
     private Long id;
     private String contents;
 
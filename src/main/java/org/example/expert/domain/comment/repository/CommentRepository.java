@@ -1,14 +1,37 @@
 package org.example.expert.domain.comment.repository;
 
 import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.common.dto.ResourceVersion;
+import org.example.expert.domain.todo.dto.projection.TodoCountProjection;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
     @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.todo.id = :todoId")
     List<Comment> findByTodoIdWithUser(@Param("todoId") Long todoId);
+
+    // (todo_id, id) 인덱스 순서로 앞에서부터 읽습니다. 작성자는 다대일이므로 fetch join 과 함께 LIMIT 이 적용됩니다.
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.todo.id = :todoId ORDER BY c.id")
+    List<Comment> findPageByTodoIdWithUser(@Param("todoId") Long todoId, Pageable limit);
+
+    // 목록 한 페이지의 댓글 수를 한 번에 셉니다. 댓글이 없는 할 일은 결과에 없습니다.
+    @Query("SELECT new org.example.expert.domain.todo.dto.projection.TodoCountProjection(c.todo.id, COUNT(c)) " +
+            "FROM Comment c WHERE c.todo.id IN :todoIds GROUP BY c.todo.id")
+    List<TodoCountProjection> countByTodoIds(@Param("todoIds") Collection<Long> todoIds);
+
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.todo.id = :todoId")
+    int deleteByTodoIdInBulk(@Param("todoId") Long todoId);
+
+    // 조건부 GET(ETag)용 버전입니다. 집계만 하므로 댓글이 없어도 한 행을 반환합니다.
+    @Query("SELECT new org.example.expert.domain.common.dto.ResourceVersion(MAX(c.modifiedAt), MAX(c.id), COUNT(c)) " +
+            "FROM Comment c WHERE c.todo.id = :todoId")
+    ResourceVersion findVersionByTodoId(@Param("todoId") Long todoId);
 }
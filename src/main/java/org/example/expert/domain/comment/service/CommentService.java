@@ -1,12 +1,14 @@
 package org.example.expert.domain.comment.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.expert.common.concurrent.SingleFlight;
 import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
 import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.ResourceVersion;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
@@ -24,6 +26,7 @@ public class CommentService {
 
     private final TodoRepository todoRepository;
     private final CommentRepository commentRepository;
+    private final SingleFlight singleFlight;
 
     @Transactional
     public CommentSaveResponse saveComment(AuthUser authUser, long todoId, CommentSaveRequest commentSaveRequest) {
@@ -46,8 +49,17 @@ public class CommentService {
         );
     }
 
-    @Transactional(readOnly = true)
+    // 같은 할 일의 댓글을 동시에 조회하면 쿼리 한 번의 결과를 함께 씁니다.
+    // 기다리는 요청이 커넥션을 잡지 않도록 트랜잭션 없이 리포지토리 트랜잭션으로만 읽습니다.
     public List<CommentResponse> getComments(long todoId) {
+        return singleFlight.execute("comments", todoId, () -> loadComments(todoId));
+    }
+
+    public ResourceVersion getCommentsVersion(long todoId) {
+        return commentRepository.findVersionByTodoId(todoId);
+    }
+
+    private List<CommentResponse> loadComments(long todoId) {
         List<Comment> commentList = commentRepository.findByTodoIdWithUser(todoId);
 
         List<CommentResponse> dtoList = new ArrayList<>();
@@ -0,0 +1,39 @@
+package org.example.expert.domain.common.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * 응답에 포함되는 행들의 max(modifiedAt), max(id), count 로 만든 버전입니다.
+ * 수정은 modifiedAt 을, 추가는 max(id) 를, 삭제는 count 를 바꾸므로 셋 중 하나라도 다르면 응답도 다릅니다.
+ * 수정 시각이 없는 엔티티(Manager)는 modifiedAt 없이 만듭니다.
+ */
+@Getter
+public class ResourceVersion {
+
+    private final LocalDateTime modifiedAt;
+    private final Long maxId;
+    private final long count;
+
+    public ResourceVersion(LocalDateTime modifiedAt, Long maxId, Long count) {
+        this.modifiedAt = modifiedAt;
+        this.maxId = maxId;
+        this.count = count == null ? 0 : count;
+    }
+
+    public ResourceVersion(Long maxId, Long count) {
+        this(null, maxId, count);
+    }
+
+    public String toETag() {
+        long modifiedAtMicros = modifiedAt == null
+                ? 0
+                : modifiedAt.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + modifiedAt.getNano() / 1_000;
+        long id = maxId == null ? 0 : maxId;
+        // 압축 등으로 바이트가 달라져도 같은 버전이면 같은 응답이므로 약한 ETag 를 씁니다.
+        return "W/\"" + Long.toString(modifiedAtMicros, 36) + '-' + Long.toString(id, 36) + '-'
+                + Long.toString(count, 36) + '"';
+    }
+}
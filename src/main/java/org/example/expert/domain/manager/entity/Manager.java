@@ -12,7 +12,11 @@ import org.example.expert.domain.user.entity.User;
 @Table(name = "managers")
 public class Manager {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // Todo 와 함께 배치로 INSERT 되도록 id_generators 테이블에서 블록 단위로 id 를 받습니다.
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "manager_id")
+    @TableGenerator(name = "manager_id", table = "id_generators", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "managers", allocationSize = 100)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -1,13 +1,36 @@
 package org.example.expert.domain.manager.repository;
 
+import org.example.expert.domain.common.dto.ResourceVersion;
 import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.todo.dto.projection.TodoCountProjection;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface ManagerRepository extends JpaRepository<Manager, Long> {
     @Query("SELECT m FROM Manager m JOIN FETCH m.user WHERE m.todo.id = :todoId")
     List<Manager> findByTodoIdWithUser(@Param("todoId") Long todoId);
+
+    // 목록 한 페이지의 담당자를 IN 쿼리 한 번으로 읽습니다. Todo.managers 를 지연 로딩하지 않습니다.
+    @Query("SELECT m FROM Manager m JOIN FETCH m.user WHERE m.todo.id IN :todoIds ORDER BY m.id")
+    List<Manager> findByTodoIdsWithUser(@Param("todoIds") Collection<Long> todoIds);
+
+    @Query("SELECT new org.example.expert.domain.todo.dto.projection.TodoCountProjection(m.todo.id, COUNT(m)) " +
+            "FROM Manager m WHERE m.todo.id IN :todoIds GROUP BY m.todo.id")
+    List<TodoCountProjection> countByTodoIds(@Param("todoIds") Collection<Long> todoIds);
+
+    @Modifying
+    @Query("DELETE FROM Manager m WHERE m.todo.id = :todoId")
+    int deleteByTodoIdInBulk(@Param("todoId") Long todoId);
+
+    // 조건부 GET(ETag)용 버전입니다. 담당자는 수정되지 않으므로 max(id) 와 count 만 봅니다.
+    // 할 일에서 시작해 조인하므로 할 일이 없으면 빈 값을 반환합니다.
+    @Query("SELECT new org.example.expert.domain.common.dto.ResourceVersion(MAX(m.id), COUNT(m)) " +
+            "FROM Todo t LEFT JOIN Manager m ON m.todo = t WHERE t.id = :todoId GROUP BY t.id")
+    Optional<ResourceVersion> findVersionByTodoId(@Param("todoId") Long todoId);
 }
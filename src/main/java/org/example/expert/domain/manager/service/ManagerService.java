@@ -1,7 +1,8 @@
 package org.example.expert.domain.manager.service;
 
-import lombok.RequiredArgsConstructor;
+import org.example.expert.common.concurrent.SingleFlight;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.ResourceVersion;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
 import org.example.expert.domain.manager.dto.response.ManagerResponse;
@@ -13,20 +14,40 @@ import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.ObjectUtils;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Service
-@RequiredArgsConstructor
 public class ManagerService {
 
     private final ManagerRepository managerRepository;
     private final UserRepository userRepository;
     private final TodoRepository todoRepository;
+    private final SingleFlight singleFlight;
+    private final TransactionTemplate readOnlyTransaction;
+
+    @Autowired
+    public ManagerService(
+            ManagerRepository managerRepository,
+            UserRepository userRepository,
+            TodoRepository todoRepository,
+            SingleFlight singleFlight,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.managerRepository = managerRepository;
+        this.userRepository = userRepository;
+        this.todoRepository = todoRepository;
+        this.singleFlight = singleFlight;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
 
     @Transactional
     public ManagerSaveResponse saveManager(AuthUser authUser, long todoId, ManagerSaveRequest managerSaveRequest) {
@@ -55,8 +76,18 @@ public class ManagerService {
         );
     }
 
-    @Transactional(readOnly = true)
+    // 같은 할 일의 담당자를 동시에 조회하면 쿼리 한 번의 결과를 함께 씁니다.
+    // 읽기 전용 트랜잭션은 실제로 읽는 요청만 열므로, 기다리는 요청은 커넥션을 잡지 않습니다.
     public List<ManagerResponse> getManagers(long todoId) {
+        return singleFlight.execute("managers", todoId, () -> readOnlyTransaction.execute(status -> loadManagers(todoId)));
+    }
+
+    public ResourceVersion getManagersVersion(long todoId) {
+        return managerRepository.findVersionByTodoId(todoId)
+                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+    }
+
+    private List<ManagerResponse> loadManagers(long todoId) {
         Todo todo = todoRepository.findById(todoId)
                 .orElseThrow(() -> new InvalidRequestException("Todo not found"));
 
@@ -0,0 +1,48 @@
+package org.example.expert.domain.todo.controller;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.todo.dto.request.TodoImportFormat;
+import org.example.expert.domain.todo.dto.response.TodoImportResponse;
+import org.example.expert.domain.todo.service.TodoAdminService;
+import org.example.expert.domain.todo.service.TodoImportService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+@RestController
+@RequiredArgsConstructor
+public class TodoAdminController {
+
+    private final TodoAdminService todoAdminService;
+    private final TodoImportService todoImportService;
+
+    // 응답 본문을 만들지 않고 출력 스트림에 바로 씁니다. 전체 크기를 모르므로 chunked 로 전송됩니다.
+    @GetMapping("/admin/todos/export")
+    public void exportTodos(HttpServletResponse response) throws IOException {
+        response.setContentType("application/x-ndjson");
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader("Content-Disposition", "attachment; filename=\"todos.ndjson\"");
+        todoAdminService.exportTodos(response.getOutputStream());
+    }
+
+    // 파일을 multipart 가 아닌 요청 본문(text/csv 또는 application/x-ndjson)으로 받아 도착하는 대로 읽습니다.
+    // 임시 파일을 만들지 않고, 앱 전체의 multipart 크기 제한을 늘리지 않고 이 API 만 todo.import.max-size 로 제한합니다.
+    @PostMapping("/admin/todos/import")
+    public ResponseEntity<TodoImportResponse> importTodos(
+            HttpServletRequest request,
+            @RequestParam(required = false) String format
+    ) throws IOException {
+        TodoImportFormat importFormat = TodoImportFormat.of(format, request.getContentType());
+        try (InputStream in = request.getInputStream()) {
+            return ResponseEntity.ok(todoImportService.importTodos(in, request.getContentLengthLong(), importFormat));
+        }
+    }
+}
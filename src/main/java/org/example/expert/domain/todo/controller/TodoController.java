@@ -4,19 +4,31 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.dto.request.TodoBulkSaveRequest;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoBatchResponse;
+import org.example.expert.domain.todo.dto.response.TodoBulkSaveResponse;
+import org.example.expert.domain.todo.dto.response.TodoChangesResponse;
+import org.example.expert.domain.todo.dto.response.TodoCursorResponse;
+import org.example.expert.domain.todo.dto.response.TodoFullResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
 import org.example.expert.domain.todo.service.TodoService;
+import org.example.expert.domain.todo.service.TodoSyncService;
 import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
 
 @RestController
 @RequiredArgsConstructor
 public class TodoController {
 
     private final TodoService todoService;
+    private final TodoSyncService todoSyncService;
 
     @PostMapping("/todos")
     public ResponseEntity<TodoSaveResponse> saveTodo(
@@ -26,16 +38,74 @@ public class TodoController {
         return ResponseEntity.ok(todoService.saveTodo(authUser, todoSaveRequest));
     }
 
+    @PostMapping("/todos/bulk")
+    public ResponseEntity<TodoBulkSaveResponse> saveTodos(
+            @Auth AuthUser authUser,
+            @Valid @RequestBody TodoBulkSaveRequest todoBulkSaveRequest
+    ) {
+        return ResponseEntity.ok(todoService.saveTodos(authUser, todoBulkSaveRequest));
+    }
+
     @GetMapping("/todos")
     public ResponseEntity<Page<TodoResponse>> getTodos(
             @RequestParam(defaultValue = "1") int page,
-            @RequestParam(defaultValue = "10") int size
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean includeManagers
+    ) {
+        return ResponseEntity.ok(todoService.getTodos(page, size, includeManagers));
+    }
+
+    // cursor 파라미터가 있으면 커서 모드로 동작합니다. 첫 페이지는 빈 값(?cursor=)으로 요청합니다.
+    // ids 와 함께 오면 두 핸들러가 모두 맞아 모호해지므로 ids 쪽에서 받아 400 으로 응답합니다.
+    @GetMapping(value = "/todos", params = {"cursor", "!ids"})
+    public ResponseEntity<TodoCursorResponse> getTodosByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean includeManagers
+    ) {
+        return ResponseEntity.ok(todoService.getTodosByCursor(cursor, size, includeManagers));
+    }
+
+    // ids 파라미터가 있으면 여러 건 조회로 동작합니다. ?ids=1,2,3 또는 ?ids=1&ids=2 모두 받습니다.
+    @GetMapping(value = "/todos", params = "ids")
+    public ResponseEntity<TodoBatchResponse> getTodosByIds(
+            @RequestParam List<Long> ids,
+            @RequestParam(required = false) String cursor
+    ) {
+        if (cursor != null) {
+            throw new InvalidRequestException("ids 와 cursor 는 함께 사용할 수 없습니다.");
+        }
+        return ResponseEntity.ok(todoService.getTodosByIds(ids));
+    }
+
+    // since 는 이전 응답의 nextToken 입니다. 비워 두면 처음부터 읽습니다.
+    @GetMapping("/todos/changes")
+    public ResponseEntity<TodoChangesResponse> getTodoChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(defaultValue = "100") int size
     ) {
-        return ResponseEntity.ok(todoService.getTodos(page, size));
+        return ResponseEntity.ok(todoSyncService.getChanges(since, size));
     }
 
+    // If-None-Match 가 현재 버전과 같으면 본문을 읽거나 직렬화하지 않고 304 로 응답합니다.
+    // 버전을 본문보다 먼저 읽으므로, 사이에 수정되더라도 오래된 본문에 새 ETag 가 붙지는 않습니다.
     @GetMapping("/todos/{todoId}")
-    public ResponseEntity<TodoResponse> getTodo(@PathVariable long todoId) {
-        return ResponseEntity.ok(todoService.getTodo(todoId));
+    public ResponseEntity<TodoResponse> getTodo(@PathVariable long todoId, WebRequest webRequest) {
+        String eTag = todoService.getTodoVersion(todoId).toETag();
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(eTag).body(todoService.getTodo(todoId));
+    }
+
+    @DeleteMapping("/todos/{todoId}")
+    public void deleteTodo(@Auth AuthUser authUser, @PathVariable long todoId) {
+        todoService.deleteTodo(authUser, todoId);
+    }
+
+    // 할 일 화면에 필요한 할 일, 담당자, 댓글 첫 페이지를 한 번에 돌려줍니다. 나머지 댓글은 /comments 로 읽습니다.
+    @GetMapping("/todos/{todoId}/full")
+    public ResponseEntity<TodoFullResponse> getTodoFull(@PathVariable long todoId) {
+        return ResponseEntity.ok(todoService.getTodoFull(todoId));
     }
 }
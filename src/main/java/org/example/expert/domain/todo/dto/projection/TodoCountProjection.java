@@ -0,0 +1,18 @@
+package org.example.expert.domain.todo.dto.projection;
+
+import lombok.Getter;
+
+/**
+ * 할 일별 댓글/담당자 수를 GROUP BY 로 한 번에 읽을 때 쓰는 프로젝션입니다.
+ */
+@Getter
+public class TodoCountProjection {
+
+    private final Long todoId;
+    private final Long count;
+
+    public TodoCountProjection(Long todoId, Long count) {
+        this.todoId = todoId;
+        this.count = count;
+    }
+}
@@ -0,0 +1,35 @@
+package org.example.expert.domain.todo.dto.projection;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 관리자 내보내기(NDJSON) 한 줄입니다. 생성자 표현식으로 만들어지므로 영속성 컨텍스트에 쌓이지 않습니다.
+ */
+@Getter
+public class TodoExportProjection {
+
+    private final Long id;
+    private final String title;
+    private final String contents;
+    private final String weather;
+    private final Long userId;
+    private final String userEmail;
+    private final Long commentCount;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime modifiedAt;
+
+    public TodoExportProjection(Long id, String title, String contents, String weather, Long userId, String userEmail,
+                                Long commentCount, LocalDateTime createdAt, LocalDateTime modifiedAt) {
+        this.id = id;
+        this.title = title;
+        this.contents = contents;
+        this.weather = weather;
+        this.userId = userId;
+        this.userEmail = userEmail;
+        this.commentCount = commentCount;
+        this.createdAt = createdAt;
+        this.modifiedAt = modifiedAt;
+    }
+}
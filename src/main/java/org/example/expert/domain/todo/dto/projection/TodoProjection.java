@@ -0,0 +1,40 @@
+package org.example.expert.domain.todo.dto.projection;
+
+import lombok.Getter;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.user.dto.response.UserResponse;
+
+import java.time.LocalDateTime;
+
+/**
+ * 할 일 조회 응답에 필요한 컬럼만 담는 읽기 전용 프로젝션입니다.
+ * JPQL 생성자 표현식으로 만들어지므로 영속성 컨텍스트에 올라가지 않고, 스냅샷이나 프록시도 생기지 않습니다.
+ */
+@Getter
+public class TodoProjection {
+
+    private final Long id;
+    private final String title;
+    private final String contents;
+    private final String weather;
+    private final Long userId;
+    private final String userEmail;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime modifiedAt;
+
+    public TodoProjection(Long id, String title, String contents, String weather, Long userId, String userEmail,
+                          LocalDateTime createdAt, LocalDateTime modifiedAt) {
+        this.id = id;
+        this.title = title;
+        this.contents = contents;
+        this.weather = weather;
+        this.userId = userId;
+        this.userEmail = userEmail;
+        this.createdAt = createdAt;
+        this.modifiedAt = modifiedAt;
+    }
+
+    public TodoResponse toResponse() {
+        return new TodoResponse(id, title, contents, weather, new UserResponse(userId, userEmail), createdAt, modifiedAt);
+    }
+}
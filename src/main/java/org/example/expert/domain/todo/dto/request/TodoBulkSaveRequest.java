@@ -0,0 +1,20 @@
+package org.example.expert.domain.todo.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TodoBulkSaveRequest {
+
+    @NotEmpty
+    @Size(max = 5000)
+    private List<@Valid TodoSaveRequest> todos;
+}
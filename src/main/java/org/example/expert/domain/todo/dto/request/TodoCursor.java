@@ -0,0 +1,42 @@
+package org.example.expert.domain.todo.dto.request;
+
+import lombok.Getter;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 할 일 목록의 커서입니다. 마지막으로 받은 항목의 (modifiedAt, id) 를 Base64URL 로 감싸 클라이언트에는 불투명한 문자열로 보입니다.
+ */
+@Getter
+public class TodoCursor {
+
+    private final LocalDateTime modifiedAt;
+    private final Long id;
+
+    public TodoCursor(LocalDateTime modifiedAt, Long id) {
+        this.modifiedAt = modifiedAt;
+        this.id = id;
+    }
+
+    public String encode() {
+        String value = modifiedAt + "," + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TodoCursor decode(String cursor) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = value.lastIndexOf(',');
+            return new TodoCursor(
+                    LocalDateTime.parse(value.substring(0, separator)),
+                    Long.parseLong(value.substring(separator + 1))
+            );
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new InvalidRequestException("잘못된 커서입니다.");
+        }
+    }
+}
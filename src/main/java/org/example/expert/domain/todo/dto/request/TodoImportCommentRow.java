@@ -0,0 +1,19 @@
+package org.example.expert.domain.todo.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TodoImportCommentRow {
+
+    @NotBlank
+    @Size(max = 255)
+    private String contents;
+    // 없으면 할 일 작성자
+    private Long userId;
+}
@@ -0,0 +1,20 @@
+package org.example.expert.domain.todo.dto.request;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.springframework.util.StringUtils;
+
+public enum TodoImportFormat {
+    NDJSON, CSV;
+
+    // format 을 주지 않으면 Content-Type 으로 정합니다 (text/csv 가 아니면 NDJSON).
+    public static TodoImportFormat of(String format, String contentType) {
+        if (StringUtils.hasText(format)) {
+            try {
+                return valueOf(format.trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new InvalidRequestException("지원하지 않는 가져오기 형식입니다: " + format);
+            }
+        }
+        return contentType != null && contentType.toLowerCase().startsWith("text/csv") ? CSV : NDJSON;
+    }
+}
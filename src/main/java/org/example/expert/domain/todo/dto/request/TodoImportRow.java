@@ -0,0 +1,39 @@
+package org.example.expert.domain.todo.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 가져오기 파일의 한 행입니다. NDJSON 은 한 줄, CSV 는 헤더 다음의 한 레코드가 한 행입니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TodoImportRow {
+
+    // 길이는 컬럼 크기(VARCHAR(255))에 맞춥니다. 넘치는 행 하나 때문에 청크 전체가 실패하지 않도록 미리 거릅니다.
+    @NotBlank
+    @Size(max = 255)
+    private String title;
+    @NotBlank
+    @Size(max = 255)
+    private String contents;
+    // 작성자 (담당자로도 함께 저장됩니다)
+    @NotNull
+    private Long userId;
+    // 이전 시스템에 저장된 날씨. 없으면 weatherDate(없으면 오늘)의 날씨를 조회합니다.
+    @Size(max = 255)
+    private String weather;
+    private LocalDate weatherDate;
+    // CSV 에는 없습니다. 한 행이 청크 크기를 크게 넘지 않도록 개수를 제한합니다.
+    @Size(max = 1000)
+    private List<@Valid TodoImportCommentRow> comments;
+}
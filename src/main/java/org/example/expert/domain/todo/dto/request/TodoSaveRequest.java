@@ -5,6 +5,8 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDate;
+
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -14,4 +16,10 @@ public class TodoSaveRequest {
     private String title;
     @NotBlank
     private String contents;
+    // 과거 일정을 옮겨 올 때 사용할 날씨 기준일 (없으면 오늘)
+    private LocalDate weatherDate;
+
+    public TodoSaveRequest(String title, String contents) {
+        this(title, contents, null);
+    }
 }
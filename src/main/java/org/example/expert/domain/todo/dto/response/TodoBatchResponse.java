@@ -0,0 +1,17 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class TodoBatchResponse {
+
+    private final List<TodoResponse> todos;
+    private final List<Long> missingIds;
+
+    public TodoBatchResponse(List<TodoResponse> todos, List<Long> missingIds) {
+        this.todos = todos;
+        this.missingIds = missingIds;
+    }
+}
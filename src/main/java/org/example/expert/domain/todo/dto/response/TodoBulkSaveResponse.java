@@ -0,0 +1,17 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class TodoBulkSaveResponse {
+
+    private final int count;
+    private final List<Long> ids;
+
+    public TodoBulkSaveResponse(List<Long> ids) {
+        this.count = ids.size();
+        this.ids = ids;
+    }
+}
@@ -0,0 +1,32 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 동기화 응답의 한 항목입니다. 삭제된 할 일은 deleted 가 true 이고 todo 가 비어 있습니다.
+ */
+@Getter
+public class TodoChangeResponse {
+
+    private final Long id;
+    private final boolean deleted;
+    private final LocalDateTime changedAt;
+    private final TodoResponse todo;
+
+    private TodoChangeResponse(Long id, boolean deleted, LocalDateTime changedAt, TodoResponse todo) {
+        this.id = id;
+        this.deleted = deleted;
+        this.changedAt = changedAt;
+        this.todo = todo;
+    }
+
+    public static TodoChangeResponse upserted(TodoResponse todo) {
+        return new TodoChangeResponse(todo.getId(), false, todo.getModifiedAt(), todo);
+    }
+
+    public static TodoChangeResponse deleted(Long id, LocalDateTime deletedAt) {
+        return new TodoChangeResponse(id, true, deletedAt, null);
+    }
+}
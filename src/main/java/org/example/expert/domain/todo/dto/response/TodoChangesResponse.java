@@ -0,0 +1,19 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class TodoChangesResponse {
+
+    private final List<TodoChangeResponse> changes;
+    private final String nextToken;
+    private final boolean hasMore;
+
+    public TodoChangesResponse(List<TodoChangeResponse> changes, String nextToken, boolean hasMore) {
+        this.changes = changes;
+        this.nextToken = nextToken;
+        this.hasMore = hasMore;
+    }
+}
@@ -0,0 +1,17 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class TodoCursorResponse {
+
+    private final List<TodoResponse> todos;
+    private final String nextCursor;
+
+    public TodoCursorResponse(List<TodoResponse> todos, String nextCursor) {
+        this.todos = todos;
+        this.nextCursor = nextCursor;
+    }
+}
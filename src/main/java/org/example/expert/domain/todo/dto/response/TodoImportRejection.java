@@ -0,0 +1,16 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class TodoImportRejection {
+
+    // 파일에서 행이 시작하는 줄 번호 (1부터)
+    private final long line;
+    private final String reason;
+
+    public TodoImportRejection(long line, String reason) {
+        this.line = line;
+        this.reason = reason;
+    }
+}
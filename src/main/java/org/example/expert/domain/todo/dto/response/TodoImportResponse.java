@@ -0,0 +1,25 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class TodoImportResponse {
+
+    private final long importedTodos;
+    private final long importedComments;
+    private final long rejectedRows;
+    private final int chunks;
+    // 거절된 행 중 앞쪽 일부만 담습니다. 전체 개수는 rejectedRows 입니다.
+    private final List<TodoImportRejection> rejections;
+
+    public TodoImportResponse(long importedTodos, long importedComments, long rejectedRows, int chunks,
+                              List<TodoImportRejection> rejections) {
+        this.importedTodos = importedTodos;
+        this.importedComments = importedComments;
+        this.rejectedRows = rejectedRows;
+        this.chunks = chunks;
+        this.rejections = rejections;
+    }
+}
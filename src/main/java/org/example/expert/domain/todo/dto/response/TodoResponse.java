@@ -1,9 +1,12 @@
 package org.example.expert.domain.todo.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Getter;
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.user.dto.response.UserResponse;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Getter
 public class TodoResponse {
@@ -16,7 +19,21 @@ public class TodoResponse {
     private final LocalDateTime createdAt;
     private final LocalDateTime modifiedAt;
 
+    // 목록 조회에서만 채웁니다. 단건 조회 응답에는 나타나지 않습니다.
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Long commentCount;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Long managerCount;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final List<ManagerResponse> managers;
+
     public TodoResponse(Long id, String title, String contents, String weather, UserResponse user, LocalDateTime createdAt, LocalDateTime modifiedAt) {
+        this(id, title, contents, weather, user, createdAt, modifiedAt, null, null, null);
+    }
+
+    private TodoResponse(Long id, String title, String contents, String weather, UserResponse user,
+                         LocalDateTime createdAt, LocalDateTime modifiedAt,
+                         Long commentCount, Long managerCount, List<ManagerResponse> managers) {
         this.id = id;
         this.title = title;
         this.contents = contents;
@@ -24,5 +41,13 @@ public class TodoResponse {
         this.user = user;
         this.createdAt = createdAt;
         this.modifiedAt = modifiedAt;
+        this.commentCount = commentCount;
+        this.managerCount = managerCount;
+        this.managers = managers;
+    }
+
+    public TodoResponse withCounts(long commentCount, long managerCount, List<ManagerResponse> managers) {
+        return new TodoResponse(id, title, contents, weather, user, createdAt, modifiedAt,
+                commentCount, managerCount, managers);
     }
 }
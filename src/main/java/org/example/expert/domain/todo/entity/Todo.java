@@ -6,6 +6,7 @@ import lombok.NoArgsConstructor;
 import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.common.entity.Timestamped;
 import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.todo.service.TodoDetailCacheInvalidator;
 import org.example.expert.domain.user.entity.User;
 
 import java.util.ArrayList;
@@ -14,10 +15,15 @@ import java.util.List;
 @Getter
 @Entity
 @NoArgsConstructor
+@EntityListeners(TodoDetailCacheInvalidator.class)
 @Table(name = "todos")
 public class Todo extends Timestamped {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // IDENTITY 는 JDBC 배치 INSERT 를 막으므로 id_generators 테이블에서 블록 단위로 id 를 받습니다.
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "todo_id")
+    @TableGenerator(name = "todo_id", table = "id_generators", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "todos", allocationSize = 100)
     private Long id;
     private String title;
     private String contents;
@@ -27,7 +33,8 @@ public class Todo extends Timestamped {
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
-    @OneToMany(mappedBy = "todo", cascade = CascadeType.REMOVE)
+    // 삭제는 TodoService.deleteTodo 가 벌크 DELETE 로 처리하므로 댓글을 한 건씩 지우는 cascade 를 두지 않습니다.
+    @OneToMany(mappedBy = "todo")
     private List<Comment> comments = new ArrayList<>();
 
     @OneToMany(mappedBy = "todo", cascade = CascadeType.PERSIST)
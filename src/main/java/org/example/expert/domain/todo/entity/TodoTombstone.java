@@ -0,0 +1,56 @@
+package org.example.expert.domain.todo.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 삭제된 할 일의 id 와 삭제 시각입니다. 동기화 클라이언트가 삭제를 알 수 있도록 남겨 둡니다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "todo_tombstones")
+public class TodoTombstone implements Persistable<Long> {
+
+    @Id
+    private Long todoId;
+
+    @Column(nullable = false)
+    private LocalDateTime deletedAt;
+
+    // id 를 직접 지정하므로 Spring Data 가 새 엔티티인지 알 수 없어 save 가 merge(SELECT 후 INSERT)로 처리합니다.
+    // 새로 만든 tombstone 은 바로 persist 하도록 직접 알려 줍니다.
+    @Transient
+    private boolean isNew = true;
+
+    public TodoTombstone(Long todoId, LocalDateTime deletedAt) {
+        this.todoId = todoId;
+        this.deletedAt = deletedAt;
+    }
+
+    @Override
+    public Long getId() {
+        return todoId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+}
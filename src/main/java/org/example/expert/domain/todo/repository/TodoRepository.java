@@ -1,25 +1,75 @@
 package org.example.expert.domain.todo.repository;
 
+import org.example.expert.domain.common.dto.ResourceVersion;
+import org.example.expert.domain.todo.dto.projection.TodoExportProjection;
+import org.example.expert.domain.todo.dto.projection.TodoProjection;
 import org.example.expert.domain.todo.entity.Todo;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface TodoRepository extends JpaRepository<Todo, Long> {
 
-    @EntityGraph(attributePaths = {"user"})
-    @Query("SELECT t FROM Todo t ORDER BY t.modifiedAt DESC")
-    Page<Todo> findAllByOrderByModifiedAtDesc(Pageable pageable);
+    // 조회 API 는 엔티티 대신 응답에 필요한 컬럼만 TodoProjection 으로 읽습니다.
+    String TODO_PROJECTION = "SELECT new org.example.expert.domain.todo.dto.projection.TodoProjection(" +
+            "t.id, t.title, t.contents, t.weather, u.id, u.email, t.createdAt, t.modifiedAt) " +
+            "FROM Todo t JOIN t.user u ";
 
-    @EntityGraph(attributePaths = {"user"})
-    @Query("SELECT t FROM Todo t " +
-            "WHERE t.id = :todoId")
-    Optional<Todo> findByIdWithUser(@Param("todoId") Long todoId);
+    @Query(value = TODO_PROJECTION + "ORDER BY t.modifiedAt DESC, t.id DESC",
+            countQuery = "SELECT COUNT(t) FROM Todo t")
+    Page<TodoProjection> findTodoPage(Pageable pageable);
+
+    @Query(TODO_PROJECTION + "WHERE t.id = :todoId")
+    Optional<TodoProjection> findTodoById(@Param("todoId") Long todoId);
+
+    @Query(TODO_PROJECTION + "WHERE t.id IN :todoIds")
+    List<TodoProjection> findTodosByIds(@Param("todoIds") Collection<Long> todoIds);
+
+    // 커서 모드: OFFSET 과 COUNT 없이 (modifiedAt, id) 순서로 이어서 읽습니다. 마지막 페이지 여부를 알기 위해 size + 1 건을 요청합니다.
+    // 앞쪽의 modifiedAt <= :modifiedAt 조건은 (modified_at, id) 인덱스를 범위 스캔으로 타게 하기 위한 것입니다.
+    @Query(TODO_PROJECTION + "ORDER BY t.modifiedAt DESC, t.id DESC")
+    List<TodoProjection> findFirstPage(Pageable limit);
+
+    @Query(TODO_PROJECTION +
+            "WHERE t.modifiedAt <= :modifiedAt AND (t.modifiedAt < :modifiedAt OR t.id < :id) " +
+            "ORDER BY t.modifiedAt DESC, t.id DESC")
+    List<TodoProjection> findPageAfter(@Param("modifiedAt") LocalDateTime modifiedAt, @Param("id") Long id, Pageable limit);
+
+    // 동기화: 위치 (modifiedAt, id) 다음부터 오름차순으로 읽습니다.
+    @Query(TODO_PROJECTION +
+            "WHERE t.modifiedAt >= :modifiedAt AND (t.modifiedAt > :modifiedAt OR t.id > :id) " +
+            "ORDER BY t.modifiedAt, t.id")
+    List<TodoProjection> findChangesAfter(@Param("modifiedAt") LocalDateTime modifiedAt, @Param("id") Long id,
+                                          Pageable limit);
+
+    // 조건부 GET(ETag)용 버전입니다. 응답의 작성자 이메일은 바뀌지 않으므로 할 일 행만 봅니다.
+    @Query("SELECT new org.example.expert.domain.common.dto.ResourceVersion(t.modifiedAt, t.id, 1L) " +
+            "FROM Todo t WHERE t.id = :todoId")
+    Optional<ResourceVersion> findVersionById(@Param("todoId") Long todoId);
+
+    // 관리자 내보내기: 마지막으로 읽은 id 다음부터 PK 순서로 limit 건씩 읽습니다. 댓글 수는 행마다 (todo_id, id) 인덱스로 셉니다.
+    // GROUP BY 와 달리 전체를 모아 정렬할 필요가 없어 페이지마다 읽는 양만큼만 비용이 듭니다.
+    @Query("SELECT new org.example.expert.domain.todo.dto.projection.TodoExportProjection(" +
+            "t.id, t.title, t.contents, t.weather, u.id, u.email, " +
+            "(SELECT COUNT(c) FROM Comment c WHERE c.todo = t), t.createdAt, t.modifiedAt) " +
+            "FROM Todo t JOIN t.user u WHERE t.id > :lastId ORDER BY t.id")
+    List<TodoExportProjection> findExportPageAfter(@Param("lastId") Long lastId, Pageable limit);
+
+    @Query("SELECT t.user.id FROM Todo t WHERE t.id = :todoId")
+    Optional<Long> findUserIdById(@Param("todoId") Long todoId);
+
+    // 엔티티를 읽지 않는 벌크 DELETE 입니다. 엔티티 리스너가 호출되지 않으므로 캐시는 호출하는 쪽에서 지웁니다.
+    @Modifying
+    @Query("DELETE FROM Todo t WHERE t.id = :todoId")
+    int deleteByIdInBulk(@Param("todoId") Long todoId);
 
     int countById(Long todoId);
 }
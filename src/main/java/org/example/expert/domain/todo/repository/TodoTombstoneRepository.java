@@ -0,0 +1,20 @@
+package org.example.expert.domain.todo.repository;
+
+import org.example.expert.domain.todo.entity.TodoTombstone;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface TodoTombstoneRepository extends JpaRepository<TodoTombstone, Long> {
+
+    // TodoRepository.findChangesAfter 와 같은 위치 조건을 (deleted_at, todo_id) 인덱스로 읽습니다.
+    @Query("SELECT t FROM TodoTombstone t " +
+            "WHERE t.deletedAt >= :deletedAt AND (t.deletedAt > :deletedAt OR t.todoId > :todoId) " +
+            "ORDER BY t.deletedAt, t.todoId")
+    List<TodoTombstone> findChangesAfter(@Param("deletedAt") LocalDateTime deletedAt, @Param("todoId") Long todoId,
+                                         Pageable limit);
+}
@@ -0,0 +1,60 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 읽은 바이트 수가 maxBytes 를 넘으면 InvalidRequestException 을 던집니다.
+ * Content-Length 가 없는 (chunked) 요청 본문도 크기를 제한하기 위해 씁니다.
+ */
+class SizeLimitedInputStream extends FilterInputStream {
+
+    private final long maxBytes;
+    private long count;
+
+    SizeLimitedInputStream(InputStream in, long maxBytes) {
+        super(in);
+        this.maxBytes = maxBytes;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = super.read();
+        if (b != -1) {
+            count(1);
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int n = super.read(b, off, len);
+        if (n > 0) {
+            count(n);
+        }
+        return n;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = super.skip(n);
+        count(skipped);
+        return skipped;
+    }
+
+    // mark/reset 을 허용하면 다시 읽은 바이트를 두 번 세게 됩니다.
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    private void count(long n) {
+        count += n;
+        if (count > maxBytes) {
+            throw new InvalidRequestException("가져오기 파일이 최대 크기(" + maxBytes + " bytes)를 넘습니다.");
+        }
+    }
+}
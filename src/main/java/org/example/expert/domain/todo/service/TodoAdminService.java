@@ -0,0 +1,88 @@
+package org.example.expert.domain.todo.service;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.domain.todo.dto.projection.TodoExportProjection;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+public class TodoAdminService {
+
+    private final TodoRepository todoRepository;
+    private final ObjectMapper objectMapper;
+    private final int exportPageSize;
+
+    @Autowired
+    public TodoAdminService(
+            TodoRepository todoRepository,
+            ObjectMapper objectMapper,
+            @Value("${todo.export.page-size:1000}") int exportPageSize
+    ) {
+        this.todoRepository = todoRepository;
+        this.objectMapper = objectMapper;
+        this.exportPageSize = exportPageSize;
+    }
+
+    /**
+     * 모든 할 일을 한 줄에 하나씩 JSON 으로 out 에 씁니다.
+     * 마지막 id 다음부터 page-size 만큼씩 PK 순서로 읽어 바로 쓰므로, 행 수와 상관없이 메모리에는 한 페이지만 올라갑니다.
+     * 서버 커서(useCursorFetch)는 연결 전체를 서버 측 prepared statement 로 바꾸므로 쓰지 않습니다.
+     * 읽기 전용 트랜잭션 하나에서 읽어 MySQL 기본 격리 수준(REPEATABLE READ)에서는 페이지 사이에도 같은 시점을 봅니다.
+     * 행은 생성자 표현식 DTO 이므로 영속성 컨텍스트에 쌓이지 않아 중간에 비울 필요가 없습니다.
+     */
+    @Transactional(readOnly = true)
+    public long exportTodos(OutputStream out) throws IOException {
+        long count = 0;
+        Pageable limit = PageRequest.of(0, exportPageSize);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            // 응답 스트림은 서블릿 컨테이너가 닫습니다.
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+            long lastId = 0;
+            List<TodoExportProjection> page;
+            do {
+                page = todoRepository.findExportPageAfter(lastId, limit);
+                for (TodoExportProjection row : page) {
+                    writeRow(generator, row);
+                }
+                if (!page.isEmpty()) {
+                    lastId = page.get(page.size() - 1).getId();
+                    count += page.size();
+                    generator.flush();
+                }
+            } while (page.size() == exportPageSize);
+        }
+        return count;
+    }
+
+    private static void writeRow(JsonGenerator generator, TodoExportProjection row) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("id", row.getId());
+        generator.writeStringField("title", row.getTitle());
+        generator.writeStringField("contents", row.getContents());
+        generator.writeStringField("weather", row.getWeather());
+        generator.writeNumberField("userId", row.getUserId());
+        generator.writeStringField("userEmail", row.getUserEmail());
+        generator.writeNumberField("commentCount", row.getCommentCount());
+        generator.writeStringField("createdAt", format(row.getCreatedAt()));
+        generator.writeStringField("modifiedAt", format(row.getModifiedAt()));
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    private static String format(LocalDateTime dateTime) {
+        return dateTime == null ? null : dateTime.toString();
+    }
+}
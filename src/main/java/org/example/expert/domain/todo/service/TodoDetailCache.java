@@ -0,0 +1,90 @@
+package org.example.expert.domain.todo.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 할 일 단건 조회(TodoResponse) 캐시입니다. 개수와 쓰기 후 경과 시간으로 만료됩니다.
+ * 무효화는 TodoDetailCacheInvalidator 가 엔티티 변경 시 호출하며, 트랜잭션 안이면 커밋 후에 한 번 더 지워
+ * 커밋 전에 읽은 옛 값이 다시 들어가는 것을 막습니다.
+ */
+@Component
+public class TodoDetailCache {
+
+    private final Cache<Long, TodoResponse> cache;
+
+    @Autowired
+    public TodoDetailCache(
+            @Value("${todo.cache.maximum-size:10000}") long maximumSize,
+            @Value("${todo.cache.expire-after-write:10m}") Duration expireAfterWrite,
+            MeterRegistry meterRegistry
+    ) {
+        this(maximumSize, expireAfterWrite, meterRegistry, Ticker.systemTicker());
+    }
+
+    TodoDetailCache(long maximumSize, Duration expireAfterWrite, MeterRegistry meterRegistry, Ticker ticker) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .ticker(ticker)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "todoDetail");
+    }
+
+    public TodoResponse getIfPresent(long todoId) {
+        return cache.getIfPresent(todoId);
+    }
+
+    public Map<Long, TodoResponse> getAllPresent(Iterable<Long> todoIds) {
+        return cache.getAllPresent(todoIds);
+    }
+
+    public TodoResponse get(long todoId, Function<Long, TodoResponse> loader) {
+        return cache.get(todoId, loader);
+    }
+
+    public void evict(long todoId) {
+        cache.invalidate(todoId);
+        afterCommit(() -> cache.invalidate(todoId));
+    }
+
+    /**
+     * 응답에 작성자 이메일이 들어 있으므로, 이메일이 바뀌면 그 사용자의 할 일을 모두 지웁니다.
+     * 캐시 전체를 훑으므로 이메일이 실제로 바뀔 때만 호출합니다.
+     */
+    public void evictByUserId(long userId) {
+        Runnable eviction = () -> cache.asMap().values().removeIf(todo -> todo.getUser().getId() == userId);
+        eviction.run();
+        afterCommit(eviction);
+    }
+
+    public long size() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        }
+    }
+}
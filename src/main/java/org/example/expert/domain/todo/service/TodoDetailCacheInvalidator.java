@@ -0,0 +1,29 @@
+package org.example.expert.domain.todo.service;
+
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.todo.entity.Todo;
+import org.springframework.stereotype.Component;
+
+/**
+ * Todo 엔티티 리스너입니다. Hibernate 가 스프링 빈으로 만들어 주므로 캐시를 주입받을 수 있습니다.
+ * JPQL 벌크 수정/삭제는 리스너를 거치지 않으므로 그런 경우에는 TodoDetailCache 를 직접 무효화해야 합니다.
+ *
+ * User 에는 달지 않습니다. 캐시된 응답에 들어가는 사용자 필드는 바뀌지 않는 이메일뿐인데,
+ * 비밀번호 변경, 역할 변경, 로그인 시 재해시처럼 잦은 수정마다 캐시 전체를 훑게 되기 때문입니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TodoDetailCacheInvalidator {
+
+    private final TodoDetailCache todoDetailCache;
+
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        if (entity instanceof Todo todo && todo.getId() != null) {
+            todoDetailCache.evict(todo.getId());
+        }
+    }
+}
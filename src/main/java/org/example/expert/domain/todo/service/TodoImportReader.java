@@ -0,0 +1,268 @@
+package org.example.expert.domain.todo.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.dto.request.TodoImportFormat;
+import org.example.expert.domain.todo.dto.request.TodoImportRow;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 가져오기 파일을 한 행씩 읽습니다. 파일 전체를 올리지 않고 버퍼 크기만큼만 읽어 가며 나눕니다.
+ * 형식이 잘못된 행은 예외 대신 error 가 있는 Entry 로 돌려주어 나머지 행을 계속 읽을 수 있게 합니다.
+ *
+ * CSV 는 첫 레코드가 헤더이며 title, contents, userId 열이 필수이고 weather, weatherDate 열은 선택입니다.
+ * 큰따옴표로 감싼 필드 안의 쉼표, 줄바꿈, 두 번 쓴 큰따옴표("")를 지원합니다.
+ *
+ * 한 행은 maxRowLength 글자까지만 버퍼에 담습니다. 닫히지 않은 따옴표나 아주 긴 줄이 파일 나머지를 메모리에 올리지 않도록,
+ * 넘치면 그 행을 거절하고 다음 줄바꿈까지 버린 뒤 이어서 읽습니다.
+ */
+class TodoImportReader implements Closeable {
+
+    // 엑셀 등이 파일 맨 앞에 붙이는 UTF-8 BOM
+    private static final String BOM = "\uFEFF";
+    private static final List<String> REQUIRED_COLUMNS = List.of("title", "contents", "userId");
+
+    private final BufferedReader reader;
+    private final TodoImportFormat format;
+    private final ObjectMapper objectMapper;
+    private final int maxRowLength;
+    private final StringBuilder lineBuffer = new StringBuilder();
+    // 마지막으로 읽은 행이 maxRowLength 를 넘어 잘렸는지
+    private boolean rowTooLong;
+    private Map<String, Integer> columns;
+    // 다음에 읽을 줄 번호
+    private long line = 1;
+
+    TodoImportReader(InputStream in, TodoImportFormat format, ObjectMapper objectMapper, int maxRowLength)
+            throws IOException {
+        this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        this.format = format;
+        this.objectMapper = objectMapper;
+        this.maxRowLength = maxRowLength;
+        if (format == TodoImportFormat.CSV) {
+            readHeader();
+        }
+    }
+
+    /**
+     * 다음 행을 읽습니다. 빈 줄은 건너뛰고, 파일 끝이면 null 을 돌려줍니다.
+     */
+    Entry next() throws IOException {
+        return format == TodoImportFormat.CSV ? nextCsv() : nextNdjson();
+    }
+
+    private Entry nextNdjson() throws IOException {
+        while (readLine()) {
+            long start = line++;
+            if (rowTooLong) {
+                return Entry.error(start, tooLongMessage());
+            }
+            String text = lineBuffer.toString();
+            if (start == 1) {
+                text = text.replace(BOM, "");
+            }
+            if (text.isBlank()) {
+                continue;
+            }
+            try {
+                TodoImportRow row = objectMapper.readValue(text, TodoImportRow.class);
+                return row == null ? Entry.error(start, "행이 비어 있습니다.") : Entry.of(start, row);
+            } catch (JsonProcessingException e) {
+                return Entry.error(start, "JSON 을 읽을 수 없습니다: " + e.getOriginalMessage());
+            }
+        }
+        return null;
+    }
+
+    // BufferedReader.readLine 과 달리 maxRowLength 를 넘는 부분은 담지 않고 버립니다. 파일 끝이면 false 입니다.
+    private boolean readLine() throws IOException {
+        lineBuffer.setLength(0);
+        rowTooLong = false;
+        int c = reader.read();
+        if (c == -1) {
+            return false;
+        }
+        for (; c != -1 && c != '\n'; c = reader.read()) {
+            if (lineBuffer.length() < maxRowLength) {
+                lineBuffer.append((char) c);
+            } else {
+                rowTooLong = true;
+            }
+        }
+        if (!lineBuffer.isEmpty() && lineBuffer.charAt(lineBuffer.length() - 1) == '\r') {
+            lineBuffer.setLength(lineBuffer.length() - 1);
+        }
+        return true;
+    }
+
+    private String tooLongMessage() {
+        return "행이 너무 깁니다(최대 " + maxRowLength + "자).";
+    }
+
+    private void readHeader() throws IOException {
+        List<String> header = readCsvRecord();
+        if (header == null) {
+            throw new InvalidRequestException("CSV 헤더가 없습니다.");
+        }
+        if (rowTooLong) {
+            throw new InvalidRequestException("CSV 헤더가 너무 깁니다.");
+        }
+        columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).replace(BOM, "").trim(), i);
+        }
+        for (String column : REQUIRED_COLUMNS) {
+            if (!columns.containsKey(column)) {
+                throw new InvalidRequestException("CSV 헤더에 " + column + " 열이 없습니다.");
+            }
+        }
+    }
+
+    private Entry nextCsv() throws IOException {
+        List<String> fields;
+        long start;
+        do {
+            start = line;
+            fields = readCsvRecord();
+            if (fields == null) {
+                return null;
+            }
+            if (rowTooLong) {
+                return Entry.error(start, tooLongMessage());
+            }
+        } while (fields.size() == 1 && fields.get(0).isBlank());
+
+        if (fields.size() > columns.size()) {
+            return Entry.error(start, "열 개수가 헤더보다 많습니다.");
+        }
+        Long userId;
+        LocalDate weatherDate;
+        try {
+            String userIdText = field(fields, "userId");
+            userId = userIdText == null ? null : Long.valueOf(userIdText.trim());
+        } catch (NumberFormatException e) {
+            return Entry.error(start, "userId 가 숫자가 아닙니다.");
+        }
+        try {
+            String weatherDateText = field(fields, "weatherDate");
+            weatherDate = weatherDateText == null ? null : LocalDate.parse(weatherDateText.trim());
+        } catch (DateTimeParseException e) {
+            return Entry.error(start, "weatherDate 형식이 올바르지 않습니다(yyyy-MM-dd).");
+        }
+        return Entry.of(start, new TodoImportRow(field(fields, "title"), field(fields, "contents"), userId,
+                field(fields, "weather"), weatherDate, null));
+    }
+
+    // 없는 열이나 빈 필드는 null 입니다.
+    private String field(List<String> fields, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= fields.size() || fields.get(index).isEmpty()) {
+            return null;
+        }
+        return fields.get(index);
+    }
+
+    private List<String> readCsvRecord() throws IOException {
+        rowTooLong = false;
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        int length = 0;
+        for (; c != -1; c = reader.read()) {
+            char ch = (char) c;
+            if (++length > maxRowLength) {
+                rowTooLong = true;
+                // 따옴표가 닫히지 않았을 수 있으므로 따옴표와 상관없이 다음 줄바꿈에서 다시 시작합니다.
+                if (ch != '\n') {
+                    skipLine();
+                } else {
+                    line++;
+                }
+                return List.of();
+            }
+            if (quoted) {
+                if (ch == '"') {
+                    reader.mark(1);
+                    if (reader.read() == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        reader.reset();
+                    }
+                } else {
+                    if (ch == '\n') {
+                        line++;
+                    }
+                    field.append(ch);
+                }
+            } else if (ch == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (ch == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (ch == '\n') {
+                line++;
+                break;
+            } else if (ch != '\r') {
+                field.append(ch);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private void skipLine() throws IOException {
+        int c;
+        while ((c = reader.read()) != -1) {
+            if (c == '\n') {
+                line++;
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    @Getter
+    static class Entry {
+
+        private final long line;
+        private final TodoImportRow row;
+        private final String error;
+
+        private Entry(long line, TodoImportRow row, String error) {
+            this.line = line;
+            this.row = row;
+            this.error = error;
+        }
+
+        static Entry of(long line, TodoImportRow row) {
+            return new Entry(line, row, null);
+        }
+
+        static Entry error(long line, String error) {
+            return new Entry(line, null, error);
+        }
+    }
+}
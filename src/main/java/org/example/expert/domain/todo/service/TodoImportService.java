@@ -0,0 +1,269 @@
+package org.example.expert.domain.todo.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.dto.request.TodoImportCommentRow;
+import org.example.expert.domain.todo.dto.request.TodoImportFormat;
+import org.example.expert.domain.todo.dto.request.TodoImportRow;
+import org.example.expert.domain.todo.dto.response.TodoImportRejection;
+import org.example.expert.domain.todo.dto.response.TodoImportResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 이전 시스템에서 내보낸 할 일과 댓글을 NDJSON 또는 CSV 파일에서 가져옵니다.
+ * 파일을 한 행씩 읽어 chunk-size 만큼 모이면 검증하고, 청크마다 트랜잭션 하나로 배치 INSERT 합니다.
+ * 메모리에는 한 청크만 올라가고 청크가 끝나면 영속성 컨텍스트도 함께 닫히므로 행 수와 상관없이 일정합니다.
+ *
+ * 잘못된 행은 건너뛰고 줄 번호와 이유를 남깁니다. 청크 저장이 실패하면 그 청크의 행만 거절하고 다음 청크로 넘어갑니다.
+ * 이미 커밋된 청크는 되돌리지 않으므로, 다시 가져올 때는 거절된 행만 모아서 올리면 됩니다.
+ */
+@Slf4j(topic = "TodoImportService")
+@Service
+public class TodoImportService {
+
+    private final TodoRepository todoRepository;
+    private final CommentRepository commentRepository;
+    private final UserRepository userRepository;
+    private final WeatherClient weatherClient;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int maxReportedRejections;
+    private final int maxRowLength;
+    private final long maxBytes;
+
+    @Autowired
+    public TodoImportService(
+            TodoRepository todoRepository,
+            CommentRepository commentRepository,
+            UserRepository userRepository,
+            WeatherClient weatherClient,
+            Validator validator,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            @Value("${todo.import.chunk-size:1000}") int chunkSize,
+            @Value("${todo.import.max-reported-rejections:100}") int maxReportedRejections,
+            @Value("${todo.import.max-row-length:1048576}") int maxRowLength,
+            @Value("${todo.import.max-size:1GB}") DataSize maxSize
+    ) {
+        this.todoRepository = todoRepository;
+        this.commentRepository = commentRepository;
+        this.userRepository = userRepository;
+        this.weatherClient = weatherClient;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.maxReportedRejections = maxReportedRejections;
+        this.maxRowLength = maxRowLength;
+        this.maxBytes = maxSize.toBytes();
+    }
+
+    /**
+     * contentLength 를 모르면 -1 을 넘깁니다. 알려진 길이가 max-size 를 넘으면 읽기 전에 거절하고,
+     * 모르면 읽으면서 세다가 넘는 순간 400 으로 중단합니다(그 전에 커밋된 청크는 남습니다).
+     */
+    public TodoImportResponse importTodos(InputStream in, long contentLength, TodoImportFormat format) throws IOException {
+        if (contentLength > maxBytes) {
+            throw new InvalidRequestException("가져오기 파일이 최대 크기(" + maxBytes + " bytes)를 넘습니다.");
+        }
+        ImportProgress progress = new ImportProgress(maxReportedRejections);
+        try (TodoImportReader reader = new TodoImportReader(
+                new SizeLimitedInputStream(in, maxBytes), format, objectMapper, maxRowLength)) {
+            List<TodoImportReader.Entry> chunk = new ArrayList<>(chunkSize);
+            TodoImportReader.Entry entry;
+            while ((entry = reader.next()) != null) {
+                chunk.add(entry);
+                if (chunk.size() == chunkSize) {
+                    importChunk(chunk, progress);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                importChunk(chunk, progress);
+            }
+        }
+        log.info("할 일 가져오기 완료: 청크 {}개, 할 일 {}건, 댓글 {}건 저장, {}행 거절",
+                progress.chunks, progress.importedTodos, progress.importedComments, progress.rejectedRows);
+        return progress.toResponse();
+    }
+
+    private void importChunk(List<TodoImportReader.Entry> chunk, ImportProgress progress) {
+        List<TodoImportReader.Entry> valid = new ArrayList<>(chunk.size());
+        for (TodoImportReader.Entry entry : chunk) {
+            String error = entry.getError() != null ? entry.getError() : validate(entry.getRow());
+            if (error == null) {
+                valid.add(entry);
+            } else {
+                progress.reject(entry.getLine(), error);
+            }
+        }
+
+        // 없는 유저를 가리키는 행 하나가 외래 키로 청크 전체를 실패시키지 않도록 청크마다 IN 쿼리 한 번으로 미리 거릅니다.
+        Set<Long> userIds = new HashSet<>();
+        valid.forEach(entry -> userIds.addAll(userIdsOf(entry.getRow())));
+        Set<Long> existingUserIds = userIds.isEmpty() ? Set.of() : new HashSet<>(userRepository.findExistingIds(userIds));
+        List<TodoImportReader.Entry> accepted = new ArrayList<>(valid.size());
+        for (TodoImportReader.Entry entry : valid) {
+            Set<Long> missing = new HashSet<>(userIdsOf(entry.getRow()));
+            missing.removeAll(existingUserIds);
+            if (missing.isEmpty()) {
+                accepted.add(entry);
+            } else {
+                progress.reject(entry.getLine(), "존재하지 않는 유저입니다: " + missing);
+            }
+        }
+
+        // 외부 API 호출이 트랜잭션과 커넥션을 붙잡지 않도록 날씨는 트랜잭션 밖에서 정합니다.
+        // 같은 날짜는 청크 안에서 한 번만 조회하고, WeatherClient 가 날짜별로 캐시하므로 청크 사이에서도 다시 호출하지 않습니다.
+        // 조회에 실패한 날짜의 행만 거절하고 나머지는 저장합니다.
+        Map<LocalDate, WeatherLookup> weatherByDate = new HashMap<>();
+        List<TodoImportReader.Entry> insertable = new ArrayList<>(accepted.size());
+        List<String> weathers = new ArrayList<>(accepted.size());
+        for (TodoImportReader.Entry entry : accepted) {
+            TodoImportRow row = entry.getRow();
+            if (StringUtils.hasText(row.getWeather())) {
+                insertable.add(entry);
+                weathers.add(row.getWeather());
+                continue;
+            }
+            // 날짜가 없으면 오늘 날씨이며, null 키로 한 번만 조회합니다.
+            WeatherLookup lookup = weatherByDate.computeIfAbsent(row.getWeatherDate(), this::lookupWeather);
+            if (lookup.weather() != null) {
+                insertable.add(entry);
+                weathers.add(lookup.weather());
+            } else {
+                progress.reject(entry.getLine(), lookup.error());
+            }
+        }
+
+        try {
+            Integer comments = transactionTemplate.execute(status -> insert(insertable, weathers));
+            progress.imported(insertable.size(), comments);
+        } catch (DataAccessException | TransactionException e) {
+            log.warn("할 일 가져오기 {}번째 청크 저장 실패 ({}행)", progress.chunks + 1, insertable.size(), e);
+            insertable.forEach(entry -> progress.reject(entry.getLine(), "저장하지 못했습니다: " + e.getMostSpecificCause().getMessage()));
+        }
+        progress.chunks++;
+        log.info("할 일 가져오기 {}번째 청크: 누적 할 일 {}건, 댓글 {}건 저장, {}행 거절",
+                progress.chunks, progress.importedTodos, progress.importedComments, progress.rejectedRows);
+    }
+
+    private String validate(TodoImportRow row) {
+        Set<ConstraintViolation<TodoImportRow>> violations = validator.validate(row);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    private static Set<Long> userIdsOf(TodoImportRow row) {
+        Set<Long> ids = new HashSet<>();
+        ids.add(row.getUserId());
+        if (row.getComments() != null) {
+            for (TodoImportCommentRow comment : row.getComments()) {
+                if (comment.getUserId() != null) {
+                    ids.add(comment.getUserId());
+                }
+            }
+        }
+        return ids;
+    }
+
+    private WeatherLookup lookupWeather(LocalDate date) {
+        try {
+            return new WeatherLookup(date == null ? weatherClient.getTodayWeather() : weatherClient.getWeather(date), null);
+        } catch (RuntimeException e) {
+            log.warn("할 일 가져오기 날씨 조회 실패 date = {}", date, e);
+            return new WeatherLookup(null, "날씨를 조회하지 못했습니다"
+                    + (date == null ? "" : " (" + date + ")") + ": " + e.getMessage());
+        }
+    }
+
+    // 할 일, 작성자 담당자, 댓글 모두 id_generators 에서 id 를 받으므로 커밋할 때 종류별로 배치 INSERT 됩니다.
+    private int insert(List<TodoImportReader.Entry> entries, List<String> weathers) {
+        List<Todo> todos = new ArrayList<>(entries.size());
+        List<Comment> comments = new ArrayList<>();
+        for (int i = 0; i < entries.size(); i++) {
+            TodoImportRow row = entries.get(i).getRow();
+            User owner = userRepository.getReferenceById(row.getUserId());
+            Todo todo = new Todo(row.getTitle(), row.getContents(), weathers.get(i), owner);
+            todos.add(todo);
+            if (row.getComments() != null) {
+                for (TodoImportCommentRow comment : row.getComments()) {
+                    User author = comment.getUserId() == null ? owner : userRepository.getReferenceById(comment.getUserId());
+                    comments.add(new Comment(comment.getContents(), author, todo));
+                }
+            }
+        }
+        todoRepository.saveAll(todos);
+        commentRepository.saveAll(comments);
+        return comments.size();
+    }
+
+    private record WeatherLookup(String weather, String error) {
+    }
+
+    private static class ImportProgress {
+
+        private final int maxReportedRejections;
+        private final List<TodoImportRejection> rejections = new ArrayList<>();
+        private long importedTodos;
+        private long importedComments;
+        private long rejectedRows;
+        private int chunks;
+
+        ImportProgress(int maxReportedRejections) {
+            this.maxReportedRejections = maxReportedRejections;
+        }
+
+        void imported(int todos, int comments) {
+            importedTodos += todos;
+            importedComments += comments;
+        }
+
+        void reject(long line, String reason) {
+            rejectedRows++;
+            if (rejections.size() < maxReportedRejections) {
+                rejections.add(new TodoImportRejection(line, reason));
+            }
+        }
+
+        TodoImportResponse toResponse() {
+            return new TodoImportResponse(importedTodos, importedComments, rejectedRows, chunks, rejections);
+        }
+    }
+}
@@ -2,34 +2,79 @@ package org.example.expert.domain.todo.service;
 
 import lombok.RequiredArgsConstructor;
 import org.example.expert.client.WeatherClient;
+import org.example.expert.common.concurrent.SingleFlight;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.ResourceVersion;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.projection.TodoCountProjection;
+import org.example.expert.domain.todo.dto.projection.TodoProjection;
+import org.example.expert.domain.todo.dto.request.TodoBulkSaveRequest;
+import org.example.expert.domain.todo.dto.request.TodoCursor;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoBatchResponse;
+import org.example.expert.domain.todo.dto.response.TodoBulkSaveResponse;
+import org.example.expert.domain.todo.dto.response.TodoCursorResponse;
+import org.example.expert.domain.todo.dto.response.TodoFullResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
 import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.entity.TodoTombstone;
 import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.repository.TodoTombstoneRepository;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.ObjectUtils;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class TodoService {
 
+    private static final int MAX_BATCH_IDS = 100;
+    private static final int MAX_CURSOR_SIZE = 100;
+    private static final int FULL_VIEW_COMMENT_SIZE = 20;
+
     private final TodoRepository todoRepository;
+    private final ManagerRepository managerRepository;
+    private final CommentRepository commentRepository;
+    private final TodoTombstoneRepository todoTombstoneRepository;
     private final WeatherClient weatherClient;
+    private final TodoDetailCache todoDetailCache;
+    private final SingleFlight singleFlight;
 
-    @Transactional
+    // 날씨 조회(원격 호출) 동안 DB 커넥션을 잡지 않도록 트랜잭션 밖에서 먼저 조회하고,
+    // insert 는 TodoRepository.save 의 트랜잭션 안에서만 수행합니다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public TodoSaveResponse saveTodo(AuthUser authUser, TodoSaveRequest todoSaveRequest) {
-        User user = User.fromAuthUser(authUser);
+        String weather = todoSaveRequest.getWeatherDate() == null
+                ? weatherClient.getTodayWeather()
+                : weatherClient.getWeather(todoSaveRequest.getWeatherDate());
 
-        String weather = weatherClient.getTodayWeather();
+        User user = User.fromAuthUser(authUser);
 
         Todo newTodo = new Todo(
                 todoSaveRequest.getTitle(),
@@ -48,36 +93,229 @@ public class TodoService {
         );
     }
 
+    // 날씨는 날짜별로 한 번씩만 트랜잭션 밖에서 조회합니다.
+    // 할 일과 작성자 담당자는 블록 단위로 받은 id 로 saveAll 의 트랜잭션 안에서 JDBC 배치 INSERT 됩니다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public TodoBulkSaveResponse saveTodos(AuthUser authUser, TodoBulkSaveRequest todoBulkSaveRequest) {
+        Map<LocalDate, String> weatherByDate = new HashMap<>();
+        String todayWeather = null;
+        List<String> weathers = new ArrayList<>(todoBulkSaveRequest.getTodos().size());
+        for (TodoSaveRequest request : todoBulkSaveRequest.getTodos()) {
+            if (request.getWeatherDate() == null) {
+                if (todayWeather == null) {
+                    todayWeather = weatherClient.getTodayWeather();
+                }
+                weathers.add(todayWeather);
+            } else {
+                weathers.add(weatherByDate.computeIfAbsent(request.getWeatherDate(), weatherClient::getWeather));
+            }
+        }
+
+        User user = User.fromAuthUser(authUser);
+        List<Todo> todos = new ArrayList<>(weathers.size());
+        for (int i = 0; i < weathers.size(); i++) {
+            TodoSaveRequest request = todoBulkSaveRequest.getTodos().get(i);
+            todos.add(new Todo(request.getTitle(), request.getContents(), weathers.get(i), user));
+        }
+
+        List<Long> ids = todoRepository.saveAll(todos).stream().map(Todo::getId).toList();
+        return new TodoBulkSaveResponse(ids);
+    }
+
+    // 담당자, 댓글, 할 일을 각각 벌크 DELETE 한 번으로 지웁니다. 댓글 수와 상관없이 문장은 세 개입니다.
+    // 벌크 DELETE 는 엔티티 리스너를 거치지 않으므로 동기화용 tombstone 과 캐시 무효화를 직접 처리합니다.
+    // tombstone 의 삭제 시각도 커밋 전에 찍히므로, 늦게 커밋되면 TodoSyncService 의 overlap 구간에서 다시 읽힙니다.
+    // 그 사이 다른 트랜잭션이 댓글을 추가하면 할 일 DELETE 가 외래 키로 실패해 전체가 롤백됩니다.
+    @Transactional
+    public void deleteTodo(AuthUser authUser, long todoId) {
+        Long ownerId = todoRepository.findUserIdById(todoId)
+                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+
+        if (!ObjectUtils.nullSafeEquals(authUser.getId(), ownerId)) {
+            throw new InvalidRequestException("해당 일정을 만든 유저가 유효하지 않습니다.");
+        }
+
+        managerRepository.deleteByTodoIdInBulk(todoId);
+        commentRepository.deleteByTodoIdInBulk(todoId);
+        todoRepository.deleteByIdInBulk(todoId);
+        todoTombstoneRepository.save(new TodoTombstone(todoId, LocalDateTime.now()));
+        todoDetailCache.evict(todoId);
+    }
+
     public Page<TodoResponse> getTodos(int page, int size) {
+        return getTodos(page, size, false);
+    }
+
+    public Page<TodoResponse> getTodos(int page, int size, boolean includeManagers) {
         Pageable pageable = PageRequest.of(page - 1, size);
 
-        Page<Todo> todos = todoRepository.findAllByOrderByModifiedAtDesc(pageable);
-
-        return todos.map(todo -> new TodoResponse(
-                todo.getId(),
-                todo.getTitle(),
-                todo.getContents(),
-                todo.getWeather(),
-                new UserResponse(todo.getUser().getId(), todo.getUser().getEmail()),
-                todo.getCreatedAt(),
-                todo.getModifiedAt()
-        ));
+        Page<TodoProjection> todos = todoRepository.findTodoPage(pageable);
+
+        return new PageImpl<>(toListResponses(todos.getContent(), includeManagers), pageable, todos.getTotalElements());
     }
 
-    public TodoResponse getTodo(long todoId) {
-        Todo todo = todoRepository.findByIdWithUser(todoId)
-                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+    public TodoCursorResponse getTodosByCursor(String cursor, int size) {
+        return getTodosByCursor(cursor, size, false);
+    }
+
+    public TodoCursorResponse getTodosByCursor(String cursor, int size, boolean includeManagers) {
+        if (size < 1 || size > MAX_CURSOR_SIZE) {
+            throw new InvalidRequestException("size 는 1 이상 " + MAX_CURSOR_SIZE + " 이하여야 합니다.");
+        }
 
-        User user = todo.getUser();
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<TodoProjection> todos;
+        if (StringUtils.hasText(cursor)) {
+            TodoCursor todoCursor = TodoCursor.decode(cursor);
+            todos = todoRepository.findPageAfter(todoCursor.getModifiedAt(), todoCursor.getId(), limit);
+        } else {
+            todos = todoRepository.findFirstPage(limit);
+        }
 
-        return new TodoResponse(
-                todo.getId(),
-                todo.getTitle(),
-                todo.getContents(),
-                todo.getWeather(),
-                new UserResponse(user.getId(), user.getEmail()),
-                todo.getCreatedAt(),
-                todo.getModifiedAt()
+        boolean hasNext = todos.size() > size;
+        List<TodoProjection> page = hasNext ? todos.subList(0, size) : todos;
+
+        String nextCursor = null;
+        if (hasNext) {
+            TodoProjection last = page.get(page.size() - 1);
+            nextCursor = new TodoCursor(last.getModifiedAt(), last.getId()).encode();
+        }
+
+        return new TodoCursorResponse(toListResponses(page, includeManagers), nextCursor);
+    }
+
+    // 목록 한 페이지의 댓글 수와 담당자 수(또는 담당자 목록)를 페이지의 id 로 묶어 한 번씩만 조회합니다.
+    // 행 수와 상관없이 쿼리 수가 같습니다. 담당자 목록을 함께 읽으면 담당자 수는 목록에서 셉니다.
+    private List<TodoResponse> toListResponses(List<TodoProjection> todos, boolean includeManagers) {
+        if (todos.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> todoIds = todos.stream().map(TodoProjection::getId).toList();
+        Map<Long, Long> commentCounts = toCountMap(commentRepository.countByTodoIds(todoIds));
+
+        Map<Long, List<ManagerResponse>> managersByTodoId = Map.of();
+        Map<Long, Long> managerCounts;
+        if (includeManagers) {
+            managersByTodoId = managerRepository.findByTodoIdsWithUser(todoIds).stream()
+                    .collect(Collectors.groupingBy(
+                            manager -> manager.getTodo().getId(),
+                            Collectors.mapping(TodoService::toManagerResponse, Collectors.toList())
+                    ));
+            managerCounts = new HashMap<>();
+            managersByTodoId.forEach((todoId, managers) -> managerCounts.put(todoId, (long) managers.size()));
+        } else {
+            managerCounts = toCountMap(managerRepository.countByTodoIds(todoIds));
+        }
+
+        List<TodoResponse> responses = new ArrayList<>(todos.size());
+        for (TodoProjection todo : todos) {
+            responses.add(todo.toResponse().withCounts(
+                    commentCounts.getOrDefault(todo.getId(), 0L),
+                    managerCounts.getOrDefault(todo.getId(), 0L),
+                    includeManagers ? managersByTodoId.getOrDefault(todo.getId(), List.of()) : null
+            ));
+        }
+        return responses;
+    }
+
+    private static Map<Long, Long> toCountMap(List<TodoCountProjection> counts) {
+        Map<Long, Long> countMap = new HashMap<>();
+        for (TodoCountProjection count : counts) {
+            countMap.put(count.getTodoId(), count.getCount());
+        }
+        return countMap;
+    }
+
+    private static ManagerResponse toManagerResponse(Manager manager) {
+        return new ManagerResponse(
+                manager.getId(),
+                new UserResponse(manager.getUser().getId(), manager.getUser().getEmail())
         );
     }
+
+    // 캐시에 있으면 커넥션을 잡지 않도록 트랜잭션 없이 조회하고, 없을 때만 리포지토리 트랜잭션으로 읽습니다.
+    // 캐시에 없는 같은 할 일을 동시에 조회하면 SingleFlight 로 한 번만 읽습니다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public TodoResponse getTodo(long todoId) {
+        TodoResponse cached = todoDetailCache.getIfPresent(todoId);
+        if (cached != null) {
+            return cached;
+        }
+
+        return singleFlight.execute("todoDetail", todoId, () -> todoDetailCache.get(todoId, id ->
+                todoRepository.findTodoById(id)
+                        .map(TodoProjection::toResponse)
+                        .orElseThrow(() -> new InvalidRequestException("Todo not found"))));
+    }
+
+    // 캐시에 있는 할 일은 캐시에서 꺼내고, 나머지만 IN 쿼리 한 번으로 읽습니다. 결과는 요청한 id 순서(중복 제외)를 따릅니다.
+    // 한꺼번에 읽은 값은 동시 수정과 순서를 보장할 수 없으므로 캐시에 넣지 않습니다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public TodoBatchResponse getTodosByIds(List<Long> todoIds) {
+        Set<Long> ids = new LinkedHashSet<>(todoIds);
+        ids.remove(null);
+        if (ids.isEmpty() || ids.size() > MAX_BATCH_IDS) {
+            throw new InvalidRequestException("ids 는 1개 이상 " + MAX_BATCH_IDS + "개 이하여야 합니다.");
+        }
+
+        Map<Long, TodoResponse> found = new HashMap<>(todoDetailCache.getAllPresent(ids));
+        List<Long> uncached = ids.stream().filter(id -> !found.containsKey(id)).toList();
+        if (!uncached.isEmpty()) {
+            todoRepository.findTodosByIds(uncached)
+                    .forEach(todo -> found.put(todo.getId(), todo.toResponse()));
+        }
+
+        List<TodoResponse> todos = new ArrayList<>(ids.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : ids) {
+            TodoResponse todo = found.get(id);
+            if (todo != null) {
+                todos.add(todo);
+            } else {
+                missingIds.add(id);
+            }
+        }
+        return new TodoBatchResponse(todos, missingIds);
+    }
+
+    // 할 일, 담당자, 댓글 첫 페이지를 한 읽기 전용 트랜잭션에서 읽습니다. 할 일이 캐시에 있으면 쿼리는 두 번입니다.
+    // 각 쿼리가 인덱스 범위 하나만 읽으므로, 커넥션을 여러 개 잡아 병렬로 실행하지 않고 한 커넥션에서 차례로 실행합니다.
+    public TodoFullResponse getTodoFull(long todoId) {
+        TodoResponse todo = todoDetailCache.get(todoId, id ->
+                todoRepository.findTodoById(id)
+                        .map(TodoProjection::toResponse)
+                        .orElseThrow(() -> new InvalidRequestException("Todo not found")));
+
+        List<ManagerResponse> managers = managerRepository.findByTodoIdWithUser(todoId).stream()
+                .map(TodoService::toManagerResponse)
+                .toList();
+
+        List<Comment> comments = commentRepository.findPageByTodoIdWithUser(
+                todoId, PageRequest.of(0, FULL_VIEW_COMMENT_SIZE + 1));
+        boolean hasMoreComments = comments.size() > FULL_VIEW_COMMENT_SIZE;
+        List<CommentResponse> commentPage = comments.stream()
+                .limit(FULL_VIEW_COMMENT_SIZE)
+                .map(comment -> new CommentResponse(
+                        comment.getId(),
+                        comment.getContents(),
+                        new UserResponse(comment.getUser().getId(), comment.getUser().getEmail())
+                ))
+                .toList();
+
+        return new TodoFullResponse(todo, managers, commentPage, hasMoreComments);
+    }
+
+    // 캐시에 있으면 캐시의 modifiedAt 으로, 없으면 가벼운 버전 쿼리로 ETag 를 만듭니다.
+    // 캐시는 커밋 후에 지워지므로 두 경로의 값이 어긋나지 않습니다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ResourceVersion getTodoVersion(long todoId) {
+        TodoResponse cached = todoDetailCache.getIfPresent(todoId);
+        if (cached != null) {
+            return new ResourceVersion(cached.getModifiedAt(), cached.getId(), 1L);
+        }
+
+        return todoRepository.findVersionById(todoId)
+                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+    }
 }
@@ -0,0 +1,114 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.dto.projection.TodoProjection;
+import org.example.expert.domain.todo.dto.request.TodoCursor;
+import org.example.expert.domain.todo.dto.response.TodoChangeResponse;
+import org.example.expert.domain.todo.dto.response.TodoChangesResponse;
+import org.example.expert.domain.todo.entity.TodoTombstone;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.repository.TodoTombstoneRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 동기화 토큰 이후에 추가/수정/삭제된 할 일을 (변경 시각, id) 오름차순으로 돌려줍니다.
+ * 추가/수정은 todos 의 (modified_at, id) 인덱스에서, 삭제는 todo_tombstones 의 (deleted_at, todo_id) 인덱스에서
+ * 같은 위치부터 최대 size + 1 건씩 읽어 합칩니다. 한 번에 읽는 양이 size 로 제한되므로 테이블 크기와 상관없이 비용이 같습니다.
+ *
+ * modifiedAt 과 deletedAt 은 커밋이 아니라 앱 서버 시계로 찍은 flush 시각입니다. 그래서 찍은 뒤 늦게 커밋된 변경이나
+ * 시계가 느린 서버의 변경은 클라이언트의 위치보다 앞에 나타날 수 있습니다. 이를 놓치지 않도록, 더 읽을 것이 없어
+ * 따라잡은 응답(hasMore = false)의 nextToken 은 마지막 위치에서 overlap 만큼 되돌려 다음 요청이 그 구간을 다시 읽게 합니다.
+ * overlap 은 가장 긴 쓰기 트랜잭션(가져오기 청크, /todos/bulk)과 서버 간 시계 차이를 합친 것보다 길어야 합니다.
+ *
+ * 되돌린 구간의 변경은 다시 올 수 있으므로 클라이언트는 (id, changedAt) 이 이미 적용한 것과 같으면 무시합니다.
+ * 이어서 읽는 중(hasMore = true)에는 되돌리지 않으므로 overlap 구간에 size 보다 많은 변경이 있어도 끝까지 읽습니다.
+ */
+@Service
+public class TodoSyncService {
+
+    // 토큰 없이 요청하면 처음부터 읽습니다.
+    private static final TodoCursor START = new TodoCursor(LocalDateTime.of(1970, 1, 1, 0, 0), 0L);
+
+    private final TodoRepository todoRepository;
+    private final TodoTombstoneRepository todoTombstoneRepository;
+    private final int maxBatchSize;
+    private final Duration overlap;
+
+    @Autowired
+    public TodoSyncService(
+            TodoRepository todoRepository,
+            TodoTombstoneRepository todoTombstoneRepository,
+            @Value("${todo.sync.max-batch-size:500}") int maxBatchSize,
+            @Value("${todo.sync.overlap:1m}") Duration overlap
+    ) {
+        this.todoRepository = todoRepository;
+        this.todoTombstoneRepository = todoTombstoneRepository;
+        this.maxBatchSize = maxBatchSize;
+        this.overlap = overlap;
+    }
+
+    @Transactional(readOnly = true)
+    public TodoChangesResponse getChanges(String since, int size) {
+        if (size < 1) {
+            throw new InvalidRequestException("size 는 1 이상이어야 합니다.");
+        }
+
+        int limit = Math.min(size, maxBatchSize);
+        TodoCursor position = StringUtils.hasText(since) ? TodoCursor.decode(since) : START;
+        Pageable pageable = PageRequest.of(0, limit + 1);
+
+        List<TodoProjection> upserts = todoRepository.findChangesAfter(
+                position.getModifiedAt(), position.getId(), pageable);
+        List<TodoTombstone> tombstones = todoTombstoneRepository.findChangesAfter(
+                position.getModifiedAt(), position.getId(), pageable);
+
+        List<TodoChangeResponse> changes = new ArrayList<>(limit);
+        int u = 0;
+        int d = 0;
+        while (changes.size() < limit && (u < upserts.size() || d < tombstones.size())) {
+            if (d >= tombstones.size() || (u < upserts.size() && isBefore(upserts.get(u), tombstones.get(d)))) {
+                changes.add(TodoChangeResponse.upserted(upserts.get(u++).toResponse()));
+            } else {
+                TodoTombstone tombstone = tombstones.get(d++);
+                changes.add(TodoChangeResponse.deleted(tombstone.getTodoId(), tombstone.getDeletedAt()));
+            }
+        }
+        boolean hasMore = u < upserts.size() || d < tombstones.size();
+
+        TodoCursor next = position;
+        if (!changes.isEmpty()) {
+            TodoChangeResponse last = changes.get(changes.size() - 1);
+            next = new TodoCursor(last.getChangedAt(), last.getId());
+            if (!hasMore) {
+                next = rewind(next);
+            }
+        }
+
+        return new TodoChangesResponse(changes, next.encode(), hasMore);
+    }
+
+    // 따라잡은 응답은 마지막까지 모두 읽은 것이므로 마지막 위치는 이전 위치보다 앞서지 않습니다.
+    // 그래서 새 변경 없이 반복해서 요청해도 되돌린 토큰이 점점 뒤로 밀리지 않습니다.
+    private TodoCursor rewind(TodoCursor last) {
+        if (overlap.isZero()) {
+            return last;
+        }
+        return new TodoCursor(last.getModifiedAt().minus(overlap), 0L);
+    }
+
+    private static boolean isBefore(TodoProjection upsert, TodoTombstone tombstone) {
+        int compared = upsert.getModifiedAt().compareTo(tombstone.getDeletedAt());
+        return compared < 0 || (compared == 0 && upsert.getId() <= tombstone.getTodoId());
+    }
+}
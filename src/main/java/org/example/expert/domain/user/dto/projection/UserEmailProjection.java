@@ -0,0 +1,18 @@
+package org.example.expert.domain.user.dto.projection;
+
+import lombok.Getter;
+
+/**
+ * 이메일 Bloom filter 를 채울 때 읽는 한 행입니다. id 는 다음 페이지의 기준으로 씁니다.
+ */
+@Getter
+public class UserEmailProjection {
+
+    private final Long id;
+    private final String email;
+
+    public UserEmailProjection(Long id, String email) {
+        this.id = id;
+        this.email = email;
+    }
+}
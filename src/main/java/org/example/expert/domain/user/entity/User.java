@@ -10,12 +10,15 @@ import org.example.expert.domain.user.enums.UserRole;
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "users")
+@Table(name = "users", uniqueConstraints = @UniqueConstraint(name = User.EMAIL_UNIQUE_CONSTRAINT, columnNames = "email"))
 public class User extends Timestamped {
 
+    // V2 마이그레이션이 만드는 유니크 인덱스 이름입니다. 가입 시 중복 이메일을 이 이름으로 구분합니다.
+    public static final String EMAIL_UNIQUE_CONSTRAINT = "uk_users_email";
+
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
-    @Column(unique = true)
+    // 할 일 캐시(TodoDetailCache)에 작성자 이메일이 들어 있습니다. 이메일을 바꾸는 기능을 추가하면 evictByUserId 를 함께 호출해야 합니다.
     private String email;
     private String password;
     @Enumerated(EnumType.STRING)
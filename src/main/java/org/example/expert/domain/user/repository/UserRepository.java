@@ -1,11 +1,24 @@
 package org.example.expert.domain.user.repository;
 
+import org.example.expert.domain.user.dto.projection.UserEmailProjection;
 import org.example.expert.domain.user.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
+
+    @Query("SELECT new org.example.expert.domain.user.dto.projection.UserEmailProjection(u.id, u.email) " +
+            "FROM User u WHERE u.id > :lastId ORDER BY u.id")
+    List<UserEmailProjection> findEmailPageAfter(@Param("lastId") Long lastId, Pageable limit);
+
+    @Query("SELECT u.id FROM User u WHERE u.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
 }
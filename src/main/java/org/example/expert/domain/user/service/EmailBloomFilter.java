@@ -0,0 +1,155 @@
+package org.example.expert.domain.user.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.user.dto.projection.UserEmailProjection;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 가입된 이메일의 Bloom filter 입니다. mightContain 이 false 면 가입되지 않은 이메일이 확실하므로 DB 를 조회하지 않아도 됩니다.
+ * 기동 후 별도 스레드에서 users 를 id 순서로 page-size 만큼씩 읽어 채우고, 다 채우기 전이나 실패했을 때는 항상 true 를 반환해 DB 조회로 넘깁니다.
+ * MySQL 드라이버는 useCursorFetch 없이 fetch size 를 무시하고 결과 전체를 메모리에 받으므로, 스트리밍 대신 마지막 id 다음부터 LIMIT 으로 나눠 읽습니다.
+ * MySQL 의 기본 콜레이션은 대소문자를 구분하지 않으므로 소문자로 바꿔 넣습니다.
+ */
+@Slf4j(topic = "EmailBloomFilter")
+@Component
+public class EmailBloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+    private final UserRepository userRepository;
+    private final int pageSize;
+    private final Counter negatives;
+    private final Counter positives;
+    private volatile boolean ready;
+
+    @Autowired
+    public EmailBloomFilter(
+            @Value("${user.email-filter.expected-insertions:1000000}") long expectedInsertions,
+            @Value("${user.email-filter.false-positive-rate:0.01}") double falsePositiveRate,
+            @Value("${user.email-filter.page-size:1000}") int pageSize,
+            UserRepository userRepository,
+            MeterRegistry meterRegistry
+    ) {
+        // m = -n ln p / (ln 2)^2, k = m / n ln 2
+        long bitCount = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bitCount = Math.max(64, (bitCount + 63) / 64 * 64);
+        this.hashCount = Math.max(1, (int) Math.round((double) this.bitCount / expectedInsertions * Math.log(2)));
+        this.bits = new AtomicLongArray(Math.toIntExact(this.bitCount / 64));
+        this.userRepository = userRepository;
+        this.pageSize = pageSize;
+        this.negatives = meterRegistry.counter("user.email.filter", "result", "negative");
+        this.positives = meterRegistry.counter("user.email.filter", "result", "positive");
+        Gauge.builder("user.email.filter.ready", this, filter -> filter.ready ? 1 : 0)
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildAsync() {
+        Thread thread = new Thread(this::build, "email-bloom-filter");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    // 페이지마다 커넥션을 잡았다 놓으므로 트랜잭션으로 묶지 않습니다. 읽는 중에 가입한 이메일은 put 으로 들어옵니다.
+    void build() {
+        try {
+            long count = 0;
+            long lastId = 0;
+            Pageable limit = PageRequest.of(0, pageSize);
+            List<UserEmailProjection> page;
+            do {
+                page = userRepository.findEmailPageAfter(lastId, limit);
+                for (UserEmailProjection user : page) {
+                    if (user.getEmail() != null) {
+                        put(user.getEmail());
+                    }
+                }
+                if (!page.isEmpty()) {
+                    lastId = page.get(page.size() - 1).getId();
+                    count += page.size();
+                }
+            } while (page.size() == pageSize);
+            ready = true;
+            log.info("이메일 Bloom filter 준비 완료: {} 건, {} bits, {} hashes", count, bitCount, hashCount);
+        } catch (RuntimeException e) {
+            // 준비되지 않은 필터는 모든 조회를 DB 로 넘기므로 동작에는 문제가 없습니다.
+            log.warn("이메일 Bloom filter 를 만들지 못했습니다. 이메일 조회는 DB 로 처리합니다.", e);
+        }
+    }
+
+    /**
+     * 가입 시 호출합니다. 필터가 아직 만들어지는 중이어도 넣어야 이미 읽은 페이지 뒤에 가입한 이메일이 빠지지 않습니다.
+     */
+    public void put(String email) {
+        long hash = hash(email);
+        long h1 = hash;
+        long h2 = mix(hash ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            int index = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current = bits.get(index);
+            while ((current & mask) == 0 && !bits.weakCompareAndSetVolatile(index, current, current | mask)) {
+                current = bits.get(index);
+            }
+        }
+    }
+
+    public boolean mightContain(String email) {
+        if (!ready) {
+            return true;
+        }
+
+        long hash = hash(email);
+        long h1 = hash;
+        long h2 = mix(hash ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                negatives.increment();
+                return false;
+            }
+        }
+        positives.increment();
+        return true;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // 소문자로 바꾼 문자열의 FNV-1a 64bit 해시를 섞은 값
+    private static long hash(String email) {
+        String normalized = email.toLowerCase(Locale.ROOT);
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < normalized.length(); i++) {
+            hash ^= normalized.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
@@ -0,0 +1,48 @@
+-- 지금까지 Hibernate 엔티티 매핑으로 만들어 쓰던 스키마입니다.
+-- 이미 테이블이 있는 DB 는 spring.flyway.baseline-on-migrate 로 이 버전을 건너뜁니다.
+CREATE TABLE users
+(
+    id          BIGINT       NOT NULL AUTO_INCREMENT,
+    email       VARCHAR(255),
+    password    VARCHAR(255),
+    user_role   ENUM ('ADMIN', 'USER'),
+    created_at  DATETIME(6),
+    modified_at DATETIME(6),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE todos
+(
+    id          BIGINT       NOT NULL AUTO_INCREMENT,
+    title       VARCHAR(255),
+    contents    VARCHAR(255),
+    weather     VARCHAR(255),
+    user_id     BIGINT       NOT NULL,
+    created_at  DATETIME(6),
+    modified_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_todos_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE comments
+(
+    id          BIGINT       NOT NULL AUTO_INCREMENT,
+    contents    VARCHAR(255),
+    user_id     BIGINT       NOT NULL,
+    todo_id     BIGINT       NOT NULL,
+    created_at  DATETIME(6),
+    modified_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_comments_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_comments_todo FOREIGN KEY (todo_id) REFERENCES todos (id)
+);
+
+CREATE TABLE managers
+(
+    id      BIGINT NOT NULL AUTO_INCREMENT,
+    user_id BIGINT NOT NULL,
+    todo_id BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_managers_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_managers_todo FOREIGN KEY (todo_id) REFERENCES todos (id)
+);
@@ -0,0 +1,16 @@
+-- 조회 쿼리에 맞춘 인덱스입니다. 목록이 바뀌면 SchemaIndexVerifier 의 EXPECTED_INDEXES 도 함께 바꿉니다.
+-- MySQL 은 같은 컬럼으로 시작하는 인덱스가 생기면 외래 키가 자동으로 만든 인덱스를 지웁니다.
+
+-- 가입/로그인 이메일 조회, 가입 시 중복 검사
+CREATE UNIQUE INDEX uk_users_email ON users (email);
+
+-- TodoRepository: ORDER BY modified_at DESC, id DESC 와 커서 조건 (modified_at, id)
+CREATE INDEX idx_todos_modified_at_id ON todos (modified_at, id);
+CREATE INDEX idx_todos_user_id ON todos (user_id);
+
+-- CommentRepository: WHERE todo_id = ? (id 순서)
+CREATE INDEX idx_comments_todo_id_id ON comments (todo_id, id);
+
+-- ManagerRepository: WHERE todo_id = ? 후 user 조인, 사용자별 담당 일정
+CREATE INDEX idx_managers_todo_id_user_id ON managers (todo_id, user_id);
+CREATE INDEX idx_managers_user_id ON managers (user_id);
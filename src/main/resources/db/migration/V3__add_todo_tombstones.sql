@@ -0,0 +1,10 @@
+-- 삭제된 할 일의 기록입니다. GET /todos/changes 가 (deleted_at, todo_id) 순서로 이어서 읽습니다.
+-- 할 일 id 는 다시 쓰이지 않으므로 todo_id 를 기본 키로 씁니다.
+CREATE TABLE todo_tombstones
+(
+    todo_id    BIGINT      NOT NULL,
+    deleted_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (todo_id)
+);
+
+CREATE INDEX idx_todo_tombstones_deleted_at_todo_id ON todo_tombstones (deleted_at, todo_id);
@@ -0,0 +1,13 @@
+-- todos, managers 의 id 를 블록 단위로 나눠 주는 테이블입니다(Hibernate TableGenerator, pooled-lo).
+-- IDENTITY 와 달리 INSERT 전에 id 를 알 수 있으므로 JDBC 배치 INSERT 가 가능합니다.
+-- next_val 은 다음 블록의 첫 id 이며, 기존 행과 겹치지 않도록 MAX(id) + 1 부터 시작합니다.
+-- id 컬럼의 AUTO_INCREMENT 는 남겨 두지만, 직접 INSERT 하는 쪽도 이 테이블에서 id 를 받아야 겹치지 않습니다.
+CREATE TABLE id_generators
+(
+    sequence_name VARCHAR(255) NOT NULL,
+    next_val      BIGINT,
+    PRIMARY KEY (sequence_name)
+);
+
+INSERT INTO id_generators (sequence_name, next_val) SELECT 'todos', COALESCE(MAX(id), 0) + 1 FROM todos;
+INSERT INTO id_generators (sequence_name, next_val) SELECT 'managers', COALESCE(MAX(id), 0) + 1 FROM managers;
@@ -0,0 +1,2 @@
+-- comments 도 id_generators 에서 블록 단위로 id 를 받아 배치 INSERT 합니다(V4 참고).
+INSERT INTO id_generators (sequence_name, next_val) SELECT 'comments', COALESCE(MAX(id), 0) + 1 FROM comments;
@@ -0,0 +1,320 @@
+package org.example.expert.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.*;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.example.expert.domain.common.exception.ServerException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.ExpectedCount;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class WeatherClientTest {
+
+	private static final String WEATHER_URL = "https://f-api.github.io/f-api/weather.json";
+	private static final String WEATHER_JSON =
+		"[{\"date\":\"05-01\",\"weather\":\"맑음\"},{\"date\":\"05-02\",\"weather\":\"비\"},"
+			+ "{\"date\":\"05-03\",\"weather\":\"흐림\"},{\"date\":\"12-25\",\"weather\":\"눈\"}]";
+
+	private MockRestServiceServer server;
+	private SimpleMeterRegistry meterRegistry;
+	private MutableClock clock;
+	private RestTemplate restTemplate;
+	private WeatherClientProperties properties;
+	private WeatherClient weatherClient;
+
+	@BeforeEach
+	void setUp() {
+		restTemplate = new RestTemplateBuilder().build();
+		server = MockRestServiceServer.bindTo(restTemplate).build();
+		meterRegistry = new SimpleMeterRegistry();
+		clock = new MutableClock(LocalDateTime.of(2024, 5, 1, 12, 0));
+		properties = new WeatherClientProperties();
+		weatherClient = new WeatherClient(restTemplate, properties, meterRegistry, clock);
+	}
+
+	@AfterEach
+	void tearDown() {
+		weatherClient.shutdown();
+	}
+
+	@Test
+	@DisplayName("같은 날 두 번째 조회부터는 원격 호출 없이 캐시에서 반환한다")
+	void getTodayWeather_cached() {
+		// given
+		server.expect(ExpectedCount.once(), requestTo(WEATHER_URL))
+			.andExpect(method(HttpMethod.GET))
+			.andRespond(withSuccess(WEATHER_JSON, MediaType.APPLICATION_JSON));
+
+		// when
+		String first = weatherClient.getTodayWeather();
+		String second = weatherClient.getTodayWeather();
+
+		// then
+		assertEquals("맑음", first);
+		assertEquals("맑음", second);
+		assertEquals(1.0, counter("weather.cache.requests", "miss"));
+		assertEquals(1.0, counter("weather.cache.requests", "hit"));
+		server.verify();
+	}
+
+	@Test
+	@DisplayName("자정 직전에 갱신해 두면 날짜가 바뀌어도 원격 호출 없이 반환한다")
+	void refresh_beforeRollover() {
+		// given
+		clock.set(LocalDateTime.of(2024, 5, 1, 23, 55));
+		server.expect(ExpectedCount.once(), requestTo(WEATHER_URL))
+			.andRespond(withSuccess(WEATHER_JSON, MediaType.APPLICATION_JSON));
+		weatherClient.refresh();
+
+		// when
+		clock.set(LocalDateTime.of(2024, 5, 2, 0, 1));
+		String weather = weatherClient.getTodayWeather();
+
+		// then
+		assertEquals("비", weather);
+		assertEquals(1.0, counter("weather.cache.requests", "hit"));
+		server.verify();
+	}
+
+	@Test
+	@DisplayName("갱신에 실패하면 이전에 받은 피드에서 날씨를 찾아 반환한다")
+	void getTodayWeather_stale() {
+		// given
+		server.expect(ExpectedCount.once(), requestTo(WEATHER_URL))
+			.andRespond(withSuccess(WEATHER_JSON, MediaType.APPLICATION_JSON));
+		server.expect(ExpectedCount.once(), requestTo(WEATHER_URL))
+			.andRespond(withServerError());
+		weatherClient.getTodayWeather();
+
+		// when
+		clock.set(LocalDateTime.of(2024, 5, 3, 12, 0));
+		String weather = weatherClient.getTodayWeather();
+
+		// then
+		assertEquals("흐림", weather);
+		assertEquals(1.0, counter("weather.cache.requests", "stale"));
+		assertEquals(1.0, counter("weather.cache.refreshes", "failure"));
+	}
+
+	@Test
+	@DisplayName("한 번 받은 피드로 다른 날짜의 날씨도 원격 호출 없이 조회한다")
+	void getWeather_anyDate() {
+		// given
+		server.expect(ExpectedCount.once(), requestTo(WEATHER_URL))
+			.andRespond(withSuccess(WEATHER_JSON, MediaType.APPLICATION_JSON));
+
+		// when
+		String today = weatherClient.getTodayWeather();
+		String christmas = weatherClient.getWeather(LocalDate.of(2023, 12, 25));
+
+		// then
+		assertEquals("맑음", today);
+		assertEquals("눈", christmas);
+		assertEquals(1.0, counter("weather.cache.requests", "hit"));
+		server.verify();
+	}
+
+	@Test
+	@DisplayName("캐시된 값이 없을 때 갱신에 실패하면 설정된 기본 날씨를 반환한다")
+	void getTodayWeather_fallback() {
+		// given
+		server.expect(ExpectedCount.once(), requestTo(WEATHER_URL))
+			.andRespond(withServerError());
+
+		// when
+		String weather = weatherClient.getTodayWeather();
+
+		// then
+		assertEquals(properties.getFallbackWeather(), weather);
+		assertEquals(1.0, counter("weather.cache.requests", "fallback"));
+	}
+
+	@Test
+	@DisplayName("연속으로 실패하면 차단기가 열려 원격 호출 없이 기본 날씨를 반환한다")
+	void getTodayWeather_circuitOpen() {
+		// given
+		properties.setFailureThreshold(2);
+		weatherClient.shutdown();
+		meterRegistry = new SimpleMeterRegistry();
+		weatherClient = new WeatherClient(restTemplate, properties, meterRegistry, clock);
+		server.expect(ExpectedCount.twice(), requestTo(WEATHER_URL))
+			.andRespond(withServerError());
+
+		// when
+		weatherClient.getTodayWeather();
+		weatherClient.getTodayWeather();
+		String weather = weatherClient.getTodayWeather();
+
+		// then
+		assertEquals(properties.getFallbackWeather(), weather);
+		assertEquals(1.0, meterRegistry.get("weather.circuit.state").gauge().value());
+		server.verify();
+	}
+
+	@Test
+	@DisplayName("캐시된 값과 기본 날씨가 모두 없을 때 갱신에 실패하면 예외가 발생한다")
+	void getTodayWeather_fail_noCache() {
+		// given
+		properties.setFallbackWeather(null);
+		server.expect(ExpectedCount.once(), requestTo(WEATHER_URL))
+			.andRespond(withSuccess("[]", MediaType.APPLICATION_JSON));
+
+		// when
+		ServerException exception = assertThrows(ServerException.class, () -> weatherClient.getTodayWeather());
+
+		// then
+		assertEquals("날씨 데이터가 없습니다.", exception.getMessage());
+	}
+
+	@Test
+	@DisplayName("피드에 없는 날짜는 기본 날씨를 반환하고, 기본 날씨가 없으면 예외가 발생한다")
+	void getWeather_dateMissingFromFeed() {
+		// given
+		server.expect(ExpectedCount.once(), requestTo(WEATHER_URL))
+			.andRespond(withSuccess(WEATHER_JSON, MediaType.APPLICATION_JSON));
+		LocalDate missing = LocalDate.of(2024, 7, 1);
+
+		// when
+		String weather = weatherClient.getWeather(missing);
+
+		// then
+		assertEquals(properties.getFallbackWeather(), weather);
+		assertEquals(1.0, counter("weather.cache.requests", "fallback"));
+		properties.setFallbackWeather(null);
+		ServerException exception = assertThrows(ServerException.class, () -> weatherClient.getWeather(missing));
+		assertEquals(missing + " 에 해당하는 날씨 데이터를 찾을 수 없습니다.", exception.getMessage());
+		server.verify();
+	}
+
+	@Test
+	@DisplayName("다른 요청이 갱신 중이면 원격 호출이 끝나기를 기다리지 않고 기본 날씨를 반환한다")
+	void getTodayWeather_refreshInFlight() throws Exception {
+		// given
+		CountDownLatch requested = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		RestTemplate slowRestTemplate = new RestTemplateBuilder()
+			.additionalInterceptors((request, body, execution) -> {
+				requested.countDown();
+				try {
+					release.await(5, TimeUnit.SECONDS);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				return execution.execute(request, body);
+			})
+			.build();
+		MockRestServiceServer slowServer = MockRestServiceServer.bindTo(slowRestTemplate).build();
+		slowServer.expect(ExpectedCount.once(), requestTo(WEATHER_URL))
+			.andRespond(withSuccess(WEATHER_JSON, MediaType.APPLICATION_JSON));
+		properties.setCallTimeout(Duration.ofSeconds(10));
+		properties.setRefreshWaitTimeout(Duration.ofMillis(100));
+		weatherClient.shutdown();
+		weatherClient = new WeatherClient(slowRestTemplate, properties, meterRegistry, clock);
+		CompletableFuture<String> refreshing = CompletableFuture.supplyAsync(weatherClient::getTodayWeather);
+		assertTrue(requested.await(5, TimeUnit.SECONDS));
+
+		// when
+		long start = System.nanoTime();
+		String waiting = weatherClient.getTodayWeather();
+		long waitedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+		release.countDown();
+
+		// then
+		assertEquals(properties.getFallbackWeather(), waiting);
+		assertTrue(waitedMillis < 2000, "waited " + waitedMillis + "ms");
+		assertEquals("맑음", refreshing.get(5, TimeUnit.SECONDS));
+		slowServer.verify();
+	}
+
+	@Test
+	@DisplayName("요청이 갱신 중이면 예약 갱신은 같은 피드를 다시 받지 않고 건너뛴다")
+	void refresh_skippedWhileRefreshInFlight() throws Exception {
+		// given
+		CountDownLatch requested = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		RestTemplate slowRestTemplate = new RestTemplateBuilder()
+			.additionalInterceptors((request, body, execution) -> {
+				requested.countDown();
+				try {
+					release.await(5, TimeUnit.SECONDS);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				return execution.execute(request, body);
+			})
+			.build();
+		MockRestServiceServer slowServer = MockRestServiceServer.bindTo(slowRestTemplate).build();
+		slowServer.expect(ExpectedCount.once(), requestTo(WEATHER_URL))
+			.andRespond(withSuccess(WEATHER_JSON, MediaType.APPLICATION_JSON));
+		properties.setCallTimeout(Duration.ofSeconds(10));
+		weatherClient.shutdown();
+		weatherClient = new WeatherClient(slowRestTemplate, properties, meterRegistry, clock);
+		CompletableFuture<String> refreshing = CompletableFuture.supplyAsync(weatherClient::getTodayWeather);
+		assertTrue(requested.await(5, TimeUnit.SECONDS));
+
+		// when
+		long start = System.nanoTime();
+		weatherClient.refresh();
+		long waitedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+		release.countDown();
+
+		// then
+		assertTrue(waitedMillis < 2000, "waited " + waitedMillis + "ms");
+		assertEquals("맑음", refreshing.get(5, TimeUnit.SECONDS));
+		slowServer.verify();
+		assertEquals(1.0, counter("weather.cache.refreshes", "success"));
+	}
+
+	private double counter(String name, String result) {
+		return meterRegistry.get(name).tag("result", result).counter().count();
+	}
+
+	private static class MutableClock extends Clock {
+
+		private Instant instant;
+
+		MutableClock(LocalDateTime dateTime) {
+			set(dateTime);
+		}
+
+		void set(LocalDateTime dateTime) {
+			this.instant = dateTime.toInstant(ZoneOffset.UTC);
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return instant;
+		}
+	}
+}
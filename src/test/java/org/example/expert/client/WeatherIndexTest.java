@@ -0,0 +1,57 @@
+package org.example.expert.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonFactory;
+
+class WeatherIndexTest {
+
+	private final JsonFactory jsonFactory = new JsonFactory();
+
+	@Test
+	@DisplayName("MM-dd 날짜로 색인하고 연도와 관계없이 조회한다")
+	void parse_and_get() throws IOException {
+		// given
+		String json = "[{\"date\":\"01-01\",\"weather\":\"맑음\"},"
+			+ "{\"weather\":\"비\",\"date\":\"02-29\",\"extra\":{\"ignored\":[1,2]}},"
+			+ "{\"date\":\"12-31\",\"weather\":\"맑음\"}]";
+
+		// when
+		WeatherIndex index = parse(json);
+
+		// then
+		assertEquals(3, index.size());
+		assertEquals("맑음", index.get(LocalDate.of(2023, 1, 1)));
+		assertEquals("비", index.get(LocalDate.of(2024, 2, 29)));
+		assertEquals("맑음", index.get(LocalDate.of(2025, 12, 31)));
+		assertNull(index.get(LocalDate.of(2025, 3, 1)));
+		assertSame(index.get(LocalDate.of(2023, 1, 1)), index.get(LocalDate.of(2023, 12, 31)));
+	}
+
+	@Test
+	@DisplayName("형식이 잘못된 항목은 건너뛴다")
+	void parse_skipInvalidEntries() throws IOException {
+		// given
+		String json = "[{\"date\":\"13-01\",\"weather\":\"맑음\"},{\"date\":\"02-30\",\"weather\":\"비\"},"
+			+ "{\"date\":\"0101\",\"weather\":\"눈\"},{\"date\":\"03-01\"},{\"date\":\"03-02\",\"weather\":\"흐림\"}]";
+
+		// when
+		WeatherIndex index = parse(json);
+
+		// then
+		assertEquals(1, index.size());
+		assertEquals("흐림", index.get(LocalDate.of(2024, 3, 2)));
+	}
+
+	private WeatherIndex parse(String json) throws IOException {
+		return WeatherIndex.parse(jsonFactory, new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+	}
+}
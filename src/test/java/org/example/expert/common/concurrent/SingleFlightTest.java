@@ -0,0 +1,143 @@
+package org.example.expert.common.concurrent;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class SingleFlightTest {
+
+	private static final int CALLERS = 8;
+
+	private SimpleMeterRegistry meterRegistry;
+	private SingleFlight singleFlight;
+	private ExecutorService executor;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		singleFlight = new SingleFlight(meterRegistry);
+		executor = Executors.newFixedThreadPool(CALLERS);
+	}
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	@DisplayName("같은 키로 동시에 들어온 호출은 loader 를 한 번만 실행하고 결과를 함께 받는다")
+	void execute_coalescesConcurrentCalls() throws Exception {
+		// given
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicInteger loaderCalls = new AtomicInteger();
+
+		// when
+		List<Future<String>> results = new ArrayList<>();
+		for (int i = 0; i < CALLERS; i++) {
+			results.add(executor.submit(() -> singleFlight.execute("todoDetail", 1L, () -> {
+				loaderCalls.incrementAndGet();
+				await(release);
+				return "todo-1";
+			})));
+		}
+		awaitDeduplicated("todoDetail", CALLERS - 1);
+		release.countDown();
+
+		// then
+		for (Future<String> result : results) {
+			assertEquals("todo-1", result.get(5, TimeUnit.SECONDS));
+		}
+		assertEquals(1, loaderCalls.get());
+		assertEquals(1, meterRegistry.get("singleflight.loads").tag("name", "todoDetail").counter().count());
+	}
+
+	@Test
+	@DisplayName("loader 가 던진 예외는 기다리던 호출에도 그대로 전달된다")
+	void execute_sharesException() throws Exception {
+		// given
+		CountDownLatch release = new CountDownLatch(1);
+
+		// when
+		List<Future<String>> results = new ArrayList<>();
+		for (int i = 0; i < CALLERS; i++) {
+			results.add(executor.submit(() -> singleFlight.execute("todoDetail", 1L, () -> {
+				await(release);
+				throw new InvalidRequestException("Todo not found");
+			})));
+		}
+		awaitDeduplicated("todoDetail", CALLERS - 1);
+		release.countDown();
+
+		// then
+		for (Future<String> result : results) {
+			Exception exception = assertThrows(Exception.class, () -> result.get(5, TimeUnit.SECONDS));
+			assertInstanceOf(InvalidRequestException.class, exception.getCause());
+			assertEquals("Todo not found", exception.getCause().getMessage());
+		}
+	}
+
+	@Test
+	@DisplayName("끝난 호출의 결과는 보관하지 않으므로 다음 호출은 loader 를 다시 실행한다")
+	void execute_releasesKeyAfterCompletion() {
+		// given
+		AtomicInteger loaderCalls = new AtomicInteger();
+
+		// when
+		singleFlight.execute("comments", 1L, loaderCalls::incrementAndGet);
+		assertThrows(IllegalStateException.class, () -> singleFlight.execute("comments", 1L, () -> {
+			throw new IllegalStateException();
+		}));
+		int result = singleFlight.execute("comments", 1L, loaderCalls::incrementAndGet);
+
+		// then
+		assertEquals(2, result);
+		assertEquals(3, meterRegistry.get("singleflight.loads").tag("name", "comments").counter().count());
+	}
+
+	@Test
+	@DisplayName("이름이 다르면 같은 키라도 따로 실행한다")
+	void execute_separatesNames() {
+		// when
+		String comments = singleFlight.execute("comments", 1L, () -> "comments");
+		String managers = singleFlight.execute("managers", 1L, () -> "managers");
+
+		// then
+		assertEquals("comments", comments);
+		assertEquals("managers", managers);
+	}
+
+	private void awaitDeduplicated(String name, int expected) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (System.nanoTime() < deadline) {
+			var counter = meterRegistry.find("singleflight.deduplicated").tag("name", name).counter();
+			if (counter != null && counter.count() >= expected) {
+				return;
+			}
+			Thread.sleep(5);
+		}
+		fail("동시 호출이 합쳐지지 않았습니다.");
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,135 @@
+package org.example.expert.config;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import com.sun.net.httpserver.HttpServer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 기존 SimpleClientHttpRequestFactory 와 공유 커넥션 풀을 로컬 스텁 서버에 대해 비교합니다.
+ * ./gradlew benchmark 로 실행합니다.
+ */
+@Tag("benchmark")
+class HttpClientBenchmarkTest {
+
+	private static final int WARMUP = 200;
+	private static final int REQUESTS = 2_000;
+	private static final int THREADS = 8;
+
+	private HttpServer server;
+	private URI uri;
+	private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+
+	@BeforeEach
+	void setUp() throws IOException {
+		// 스텁 서버의 Nagle 지연(약 40ms)이 측정값을 가리지 않도록 끕니다.
+		System.setProperty("sun.net.httpserver.nodelay", "true");
+		byte[] body = weatherFeed();
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.setExecutor(Executors.newFixedThreadPool(THREADS));
+		server.createContext("/f-api/weather.json", exchange -> {
+			clientPorts.add(exchange.getRemoteAddress().getPort());
+			exchange.getResponseHeaders().add("Content-Type", "application/json");
+			exchange.sendResponseHeaders(200, body.length);
+			try (OutputStream out = exchange.getResponseBody()) {
+				out.write(body);
+			}
+		});
+		server.start();
+		uri = URI.create("http://127.0.0.1:" + server.getAddress().getPort() + "/f-api/weather.json");
+	}
+
+	@AfterEach
+	void tearDown() {
+		server.stop(0);
+	}
+
+	@Test
+	void compareSimpleAndPooledClients() throws Exception {
+		RestTemplate simple = new RestTemplate(new SimpleClientHttpRequestFactory());
+		report("simple", simple);
+
+		HttpClientConfig config = new HttpClientConfig();
+		HttpClientProperties properties = new HttpClientProperties();
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		try (PoolingHttpClientConnectionManager connectionManager =
+				 config.httpClientConnectionManager(properties, meterRegistry);
+			 CloseableHttpClient httpClient = config.httpClient(connectionManager, properties, meterRegistry)) {
+			RestTemplate pooled = new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+			report("pooled", pooled);
+			System.out.printf("[pooled] connections created = %.0f, reused = %.0f%n",
+				meterRegistry.get("http.client.connections.created").counter().count(),
+				meterRegistry.get("http.client.connections.reused").functionCounter().count());
+		}
+	}
+
+	private void report(String name, RestTemplate restTemplate) throws Exception {
+		for (int i = 0; i < WARMUP; i++) {
+			restTemplate.getForObject(uri, String.class);
+		}
+		clientPorts.clear();
+
+		long sequentialStart = System.nanoTime();
+		for (int i = 0; i < REQUESTS; i++) {
+			restTemplate.getForObject(uri, String.class);
+		}
+		long sequentialNanos = System.nanoTime() - sequentialStart;
+		int sequentialConnections = clientPorts.size();
+		clientPorts.clear();
+
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		long concurrentStart = System.nanoTime();
+		Future<?>[] futures = new Future<?>[THREADS];
+		for (int t = 0; t < THREADS; t++) {
+			futures[t] = executor.submit(() -> {
+				for (int i = 0; i < REQUESTS / THREADS; i++) {
+					restTemplate.getForObject(uri, String.class);
+				}
+			});
+		}
+		for (Future<?> future : futures) {
+			future.get();
+		}
+		long concurrentNanos = System.nanoTime() - concurrentStart;
+		executor.shutdown();
+		executor.awaitTermination(10, TimeUnit.SECONDS);
+
+		System.out.printf("[%s] sequential: %d req, %.1f us/req, %d connections | concurrent(%d): %.1f us/req, %d connections%n",
+			name, REQUESTS, sequentialNanos / 1_000.0 / REQUESTS, sequentialConnections,
+			THREADS, concurrentNanos / 1_000.0 / REQUESTS, clientPorts.size());
+	}
+
+	private static byte[] weatherFeed() {
+		StringBuilder json = new StringBuilder("[");
+		for (int month = 1; month <= 12; month++) {
+			for (int day = 1; day <= 30; day++) {
+				if (json.length() > 1) {
+					json.append(',');
+				}
+				json.append(String.format("{\"date\":\"%02d-%02d\",\"weather\":\"Sunny\"}", month, day));
+			}
+		}
+		return json.append(']').toString().getBytes(StandardCharsets.UTF_8);
+	}
+}
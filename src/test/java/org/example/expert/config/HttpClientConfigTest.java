@@ -0,0 +1,40 @@
+package org.example.expert.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Map;
+
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.routing.DefaultRoutePlanner;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.http.HttpHost;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class HttpClientConfigTest {
+
+	@Test
+	@DisplayName("호스트별 최대 커넥션 수가 라우트 플래너가 만든 http, https 라우트에 적용된다")
+	void maxPerRoute_matchesPlannedRoute() throws Exception {
+		// given
+		HttpClientProperties properties = new HttpClientProperties();
+		properties.setMaxPerRoute(Map.of("f-api.github.io", 4));
+		DefaultRoutePlanner routePlanner = new DefaultRoutePlanner(null);
+
+		try (PoolingHttpClientConnectionManager connectionManager =
+				 new HttpClientConfig().httpClientConnectionManager(properties, new SimpleMeterRegistry())) {
+			// when
+			HttpRoute https = routePlanner.determineRoute(new HttpHost("https", "f-api.github.io", -1), HttpClientContext.create());
+			HttpRoute http = routePlanner.determineRoute(new HttpHost("http", "f-api.github.io", -1), HttpClientContext.create());
+			HttpRoute other = routePlanner.determineRoute(new HttpHost("https", "example.com", -1), HttpClientContext.create());
+
+			// then
+			assertEquals(4, connectionManager.getMaxPerRoute(https));
+			assertEquals(4, connectionManager.getMaxPerRoute(http));
+			assertEquals(properties.getDefaultMaxPerRoute(), connectionManager.getMaxPerRoute(other));
+		}
+	}
+}
@@ -0,0 +1,68 @@
+package org.example.expert.config;
+
+import java.lang.management.ManagementFactory;
+import java.security.Key;
+import java.util.Date;
+import java.util.function.Supplier;
+
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.sun.management.ThreadMXBean;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+
+/**
+ * jjwt 빌더/파서와 HS256 전용 경로의 처리 시간과 스레드 할당량을 비교합니다.
+ * ./gradlew benchmark 로 실행합니다.
+ */
+@Tag("benchmark")
+class JwtBenchmarkTest {
+
+	private static final int WARMUP = 50_000;
+	private static final int ITERATIONS = 200_000;
+
+	private final ThreadMXBean threadMXBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+	private volatile Object sink;
+
+	@Test
+	void compareJjwtAndFastPath() {
+		JwtUtil jwtUtil = new JwtUtil();
+		ReflectionTestUtils.setField(jwtUtil, "secretKey", "abcdefghijklmnopqrstuvwxyz123456123123123123");
+		jwtUtil.init();
+		Key key = (Key) ReflectionTestUtils.getField(jwtUtil, "key");
+		String token = jwtUtil.substringToken(jwtUtil.createToken(1L, "user@example.com", UserRole.USER));
+
+		report("mint  jjwt", () -> Jwts.builder()
+			.setSubject("1")
+			.claim("email", "user@example.com")
+			.claim("userRole", UserRole.USER)
+			.setExpiration(new Date(System.currentTimeMillis() + 3_600_000))
+			.setIssuedAt(new Date())
+			.signWith(key, SignatureAlgorithm.HS256)
+			.compact());
+		report("mint  fast", () -> jwtUtil.createToken(1L, "user@example.com", UserRole.USER));
+		report("parse jjwt", () -> jwtUtil.extractClaims(token));
+		report("parse fast", () -> jwtUtil.verify(token));
+	}
+
+	private void report(String name, Supplier<Object> operation) {
+		for (int i = 0; i < WARMUP; i++) {
+			sink = operation.get();
+		}
+
+		long threadId = Thread.currentThread().getId();
+		long allocatedBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+		long start = System.nanoTime();
+		for (int i = 0; i < ITERATIONS; i++) {
+			sink = operation.get();
+		}
+		long elapsed = System.nanoTime() - start;
+		long allocated = threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+		System.out.printf("[%s] %.0f ns/op, %d B/op%n", name, (double) elapsed / ITERATIONS, allocated / ITERATIONS);
+	}
+}
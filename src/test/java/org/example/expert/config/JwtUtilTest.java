@@ -0,0 +1,154 @@
+package org.example.expert.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.security.Key;
+import java.util.Date;
+
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.SignatureAlgorithm;
+
+class JwtUtilTest {
+
+	private static final String SECRET_KEY = "abcdefghijklmnopqrstuvwxyz123456123123123123";
+
+	private JwtUtil jwtUtil;
+
+	@BeforeEach
+	void setUp() {
+		jwtUtil = new JwtUtil();
+		ReflectionTestUtils.setField(jwtUtil, "secretKey", SECRET_KEY);
+		jwtUtil.init();
+	}
+
+	@Test
+	@DisplayName("전용 경로로 발급한 토큰을 jjwt 가 검증할 수 있다")
+	void createToken_readableByJjwt() {
+		// when
+		String token = jwtUtil.substringToken(jwtUtil.createToken(1L, "a@a.com", UserRole.USER));
+		Claims claims = jwtUtil.extractClaims(token);
+
+		// then
+		assertEquals("1", claims.getSubject());
+		assertEquals("a@a.com", claims.get("email", String.class));
+		assertEquals("USER", claims.get("userRole", String.class));
+		assertNotNull(claims.getExpiration());
+		assertNotNull(claims.getIssuedAt());
+	}
+
+	@Test
+	@DisplayName("jjwt 로 발급한 토큰도 같은 헤더를 쓰므로 전용 경로로 검증된다")
+	void verify_jjwtToken() {
+		// given
+		long expiresAt = (System.currentTimeMillis() / 1000 + 3600) * 1000;
+		String token = Jwts.builder()
+			.setSubject("7")
+			.claim("email", "관리자@a.com")
+			.claim("userRole", UserRole.ADMIN)
+			.setExpiration(new Date(expiresAt))
+			.setIssuedAt(new Date())
+			.signWith(key(), SignatureAlgorithm.HS256)
+			.compact();
+
+		// when
+		VerifiedToken verifiedToken = jwtUtil.verify(token);
+
+		// then
+		assertTrue(token.startsWith(Hs256TokenCodec.HEADER_SEGMENT + "."));
+		assertEquals(7L, verifiedToken.getUserId());
+		assertEquals("관리자@a.com", verifiedToken.getEmail());
+		assertEquals("ADMIN", verifiedToken.getUserRole());
+		assertEquals(expiresAt, verifiedToken.getExpiresAtMillis());
+	}
+
+	@Test
+	@DisplayName("예상하지 못한 클레임이 있는 토큰은 jjwt 로 검증한다")
+	void verify_fallbackForUnknownClaims() {
+		// given
+		String token = Jwts.builder()
+			.setSubject("3")
+			.claim("email", "a@a.com")
+			.claim("userRole", "USER")
+			.claim("nickname", "nick")
+			.setExpiration(new Date(System.currentTimeMillis() + 60_000))
+			.signWith(key(), SignatureAlgorithm.HS256)
+			.compact();
+
+		// when
+		VerifiedToken verifiedToken = jwtUtil.verify(token);
+
+		// then
+		assertEquals(3L, verifiedToken.getUserId());
+		assertEquals("a@a.com", verifiedToken.getEmail());
+	}
+
+	@Test
+	@DisplayName("이스케이프가 필요한 이메일은 jjwt 로 발급하고 그대로 검증된다")
+	void createToken_fallbackForEscapedEmail() {
+		// when
+		String token = jwtUtil.substringToken(jwtUtil.createToken(2L, "a\"b@a.com", UserRole.USER));
+		VerifiedToken verifiedToken = jwtUtil.verify(token);
+
+		// then
+		assertEquals("a\"b@a.com", verifiedToken.getEmail());
+	}
+
+	@Test
+	@DisplayName("서명이 변조된 토큰은 jjwt 예외로 거부된다")
+	void verify_tamperedSignature() {
+		// given
+		String token = jwtUtil.substringToken(jwtUtil.createToken(1L, "a@a.com", UserRole.USER));
+		String payload = token.substring(token.indexOf('.') + 1, token.lastIndexOf('.'));
+		String tampered = token.replace(payload, payload.substring(0, payload.length() - 2) + "fQ");
+
+		// when & then
+		assertThrows(JwtException.class, () -> jwtUtil.verify(tampered));
+		assertThrows(JwtException.class, () -> jwtUtil.verify(token.substring(0, token.length() - 2)));
+	}
+
+	@Test
+	@DisplayName("만료된 토큰은 ExpiredJwtException 으로 거부된다")
+	void verify_expired() {
+		// given
+		String token = Jwts.builder()
+			.setSubject("1")
+			.claim("email", "a@a.com")
+			.claim("userRole", "USER")
+			.setExpiration(new Date(System.currentTimeMillis() - 60_000))
+			.signWith(key(), SignatureAlgorithm.HS256)
+			.compact();
+
+		// when & then
+		assertThrows(ExpiredJwtException.class, () -> jwtUtil.verify(token));
+	}
+
+	@Test
+	@DisplayName("서명이 맞아도 exp 가 없는 토큰은 MalformedJwtException 으로 거부된다")
+	void verify_missingExpiration() {
+		// given
+		String token = Jwts.builder()
+			.setSubject("1")
+			.claim("email", "a@a.com")
+			.claim("userRole", "USER")
+			.setIssuedAt(new Date())
+			.signWith(key(), SignatureAlgorithm.HS256)
+			.compact();
+
+		// when & then
+		assertThrows(MalformedJwtException.class, () -> jwtUtil.verify(token));
+	}
+
+	private Key key() {
+		return (Key) ReflectionTestUtils.getField(jwtUtil, "key");
+	}
+}
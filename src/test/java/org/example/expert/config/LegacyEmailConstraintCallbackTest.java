@@ -0,0 +1,61 @@
+package org.example.expert.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+class LegacyEmailConstraintCallbackTest {
+
+	private static final String FIND_EMAIL_UNIQUE_INDEXES =
+		"SELECT i.INDEX_NAME FROM INFORMATION_SCHEMA.INDEXES i "
+			+ "JOIN INFORMATION_SCHEMA.INDEX_COLUMNS c ON c.INDEX_SCHEMA = i.INDEX_SCHEMA AND c.INDEX_NAME = i.INDEX_NAME "
+			+ "WHERE i.TABLE_NAME = 'users' AND i.INDEX_TYPE_NAME = 'UNIQUE INDEX' AND c.COLUMN_NAME = 'email'";
+
+	@Test
+	@DisplayName("Hibernate 가 만든 스키마를 기준선으로 받으면 기존 email 유니크 제약을 지우고 uk_users_email 하나만 남긴다")
+	void migrate_hibernateSchema() {
+		// given
+		DriverManagerDataSource dataSource = new DriverManagerDataSource(
+			"jdbc:h2:mem:legacy-" + UUID.randomUUID() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+		// Hibernate(ddl-auto)가 만든 것과 같은 스키마: V1 의 테이블과 이름 없는 email 유니크 제약, 이력 테이블 없음
+		Flyway.configure().dataSource(dataSource).target("1").load().migrate();
+		jdbcTemplate.execute("ALTER TABLE users ADD CONSTRAINT UK6dotkott2kjsp8vw4d0m25fb7 UNIQUE (email)");
+		jdbcTemplate.execute("DROP TABLE \"flyway_schema_history\"");
+
+		// when
+		Flyway.configure()
+			.dataSource(dataSource)
+			.baselineOnMigrate(true)
+			.baselineVersion("1")
+			.callbacks(new LegacyEmailConstraintCallback())
+			.load()
+			.migrate();
+
+		// then
+		List<String> indexes = jdbcTemplate.queryForList(FIND_EMAIL_UNIQUE_INDEXES, String.class);
+		assertEquals(List.of("uk_users_email"), indexes);
+	}
+
+	@Test
+	@DisplayName("마이그레이션으로 처음부터 만든 스키마에서는 아무것도 지우지 않는다")
+	void migrate_freshSchema() {
+		// given
+		DriverManagerDataSource dataSource = new DriverManagerDataSource(
+			"jdbc:h2:mem:fresh-" + UUID.randomUUID() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+
+		// when
+		Flyway.configure().dataSource(dataSource).callbacks(new LegacyEmailConstraintCallback()).load().migrate();
+
+		// then
+		List<String> indexes = new JdbcTemplate(dataSource).queryForList(FIND_EMAIL_UNIQUE_INDEXES, String.class);
+		assertEquals(List.of("uk_users_email"), indexes);
+	}
+}
@@ -1,18 +1,40 @@
 package org.example.expert.config;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
-import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
-@ExtendWith(SpringExtension.class)
 class PasswordEncoderTest {
 
-    @InjectMocks
+    private SimpleMeterRegistry meterRegistry;
+    private PasswordHashExecutor passwordHashExecutor;
     private PasswordEncoder passwordEncoder;
 
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        passwordHashExecutor = new PasswordHashExecutor(1, 1, Duration.ofSeconds(5), meterRegistry);
+        passwordEncoder = new PasswordEncoder(passwordHashExecutor, 4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        passwordHashExecutor.shutdown();
+    }
+
     @Test
     void matches_메서드가_정상적으로_동작한다() {
         // given
@@ -24,5 +46,57 @@ class PasswordEncoderTest {
 
         // then
         assertTrue(matches);
+        assertEquals(1, meterRegistry.get("password.hash").tag("operation", "encode").timer().count());
+        assertEquals(1, meterRegistry.get("password.hash").tag("operation", "matches").timer().count());
+    }
+
+    @Test
+    void 비용이_다른_해시는_다시_해시해야_한다() {
+        // given
+        String encodedPassword = passwordEncoder.encode("testPassword");
+        PasswordEncoder upgraded = new PasswordEncoder(passwordHashExecutor, 5);
+
+        // when & then
+        assertFalse(passwordEncoder.needsRehash(encodedPassword));
+        assertTrue(upgraded.needsRehash(encodedPassword));
+        assertTrue(upgraded.matches("testPassword", encodedPassword));
+        assertFalse(upgraded.needsRehash(upgraded.encode("testPassword")));
+    }
+
+    @Test
+    void 기동_시_목표_시간_안에서_가장_큰_비용을_고른다() {
+        // when
+        PasswordEncoder calibrated = new PasswordEncoder(
+                passwordHashExecutor, 0, 4, 6, Duration.ofMinutes(1), meterRegistry);
+
+        // then
+        assertEquals(6, calibrated.getCost());
+        assertEquals(6, meterRegistry.get("password.hash.cost").gauge().value());
+        assertTrue(meterRegistry.get("password.hash.calibrated").gauge().value() > 0);
+    }
+
+    @Test
+    void 대기열이_가득_차면_기다리지_않고_ServiceUnavailableException을_던진다() throws Exception {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        callers.submit(() -> passwordHashExecutor.execute("matches", () -> {
+            started.countDown();
+            return release.await(5, TimeUnit.SECONDS);
+        }));
+        started.await(5, TimeUnit.SECONDS);
+        callers.submit(() -> passwordHashExecutor.execute("matches", () -> true));
+        while (meterRegistry.get("password.hash.queued").gauge().value() < 1) {
+            Thread.onSpinWait();
+        }
+
+        // when & then
+        try {
+            assertThrows(ServiceUnavailableException.class, () -> passwordEncoder.matches("password", "hash"));
+        } finally {
+            release.countDown();
+            callers.shutdown();
+        }
     }
 }
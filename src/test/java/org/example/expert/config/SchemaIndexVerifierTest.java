@@ -0,0 +1,40 @@
+package org.example.expert.config;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class SchemaIndexVerifierTest {
+
+	@Autowired
+	private SchemaIndexVerifier schemaIndexVerifier;
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	@DisplayName("마이그레이션을 적용한 스키마에는 기대하는 인덱스가 모두 있다")
+	void findMissingIndexes_none() throws Exception {
+		assertThat(schemaIndexVerifier.findMissingIndexes()).isEmpty();
+	}
+
+	@Test
+	@DirtiesContext
+	@DisplayName("인덱스가 빠지면 찾아낸다")
+	void findMissingIndexes_dropped() throws Exception {
+		// given
+		jdbcTemplate.execute("DROP INDEX idx_todos_modified_at_id");
+
+		// when & then
+		assertThat(schemaIndexVerifier.findMissingIndexes())
+			.extracting(SchemaIndexVerifier.ExpectedIndex::toString)
+			.containsExactly("todos(modified_at, id)");
+	}
+}
@@ -0,0 +1,85 @@
+package org.example.expert.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class VerifiedTokenCacheTest {
+
+	private static final Instant NOW = Instant.parse("2024-05-01T00:00:00Z");
+
+	private final AtomicLong nanos = new AtomicLong();
+	private final AtomicInteger verifications = new AtomicInteger();
+	private SimpleMeterRegistry meterRegistry;
+	private VerifiedTokenCache verifiedTokenCache;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		verifiedTokenCache = new VerifiedTokenCache(
+			100, Duration.ofHours(1), meterRegistry, nanos::get, Clock.fixed(NOW, ZoneOffset.UTC));
+	}
+
+	@Test
+	@DisplayName("같은 토큰은 한 번만 검증한다")
+	void get_cached() {
+		// when
+		VerifiedToken first = verifiedTokenCache.get("token", this::verify);
+		VerifiedToken second = verifiedTokenCache.get("token", this::verify);
+
+		// then
+		assertSame(first, second);
+		assertEquals(1, verifications.get());
+		assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "jwtVerifiedTokens")
+			.tag("result", "hit").functionCounter().count());
+	}
+
+	@Test
+	@DisplayName("토큰의 만료 시각이 지나면 캐시에서 사라진다")
+	void get_expiresWithToken() {
+		// given
+		verifiedTokenCache.get("token", this::verify);
+
+		// when
+		nanos.addAndGet(Duration.ofMinutes(10).toNanos());
+		verifiedTokenCache.get("token", this::verify);
+
+		// then
+		assertEquals(2, verifications.get());
+	}
+
+	@Test
+	@DisplayName("검증에 실패한 토큰은 캐시하지 않는다")
+	void get_failureNotCached() {
+		// when
+		assertThrows(IllegalStateException.class, () -> verifiedTokenCache.get("bad", token -> {
+			verifications.incrementAndGet();
+			throw new IllegalStateException("invalid");
+		}));
+		assertThrows(IllegalStateException.class, () -> verifiedTokenCache.get("bad", token -> {
+			verifications.incrementAndGet();
+			throw new IllegalStateException("invalid");
+		}));
+
+		// then
+		assertEquals(2, verifications.get());
+		assertEquals(0, verifiedTokenCache.size());
+	}
+
+	// 5분 뒤 만료되는 토큰
+	private VerifiedToken verify(String token) {
+		verifications.incrementAndGet();
+		return new VerifiedToken(1L, "a@a.com", "USER", NOW.plus(Duration.ofMinutes(5)).toEpochMilli());
+	}
+}
@@ -16,6 +16,8 @@ import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.user.service.EmailBloomFilter;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -24,6 +26,7 @@ import org.mockito.BDDMockito;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
@@ -35,6 +38,8 @@ class AuthServiceTest {
 	private PasswordEncoder passwordEncoder;
 	@Mock
 	private JwtUtil jwtUtil;
+	@Mock
+	private EmailBloomFilter emailBloomFilter;
 	@InjectMocks
 	private AuthService authService;
 
@@ -52,13 +57,12 @@ class AuthServiceTest {
 
 			SignupRequest signupRequest = new SignupRequest(email, password, userRole.name());
 
-			given(userRepository.existsByEmail(email)).willReturn(false);
 			given(passwordEncoder.encode(password)).willReturn("encodedPassword");
 
 			User user = new User(email, "encodedPassword", userRole);
 			ReflectionTestUtils.setField(user, "id", 1L);
 
-			given(userRepository.save(any())).willReturn(user);
+			given(userRepository.saveAndFlush(any())).willReturn(user);
 			given(jwtUtil.createToken(user.getId(), user.getEmail(), userRole)).willReturn("bearerToken");
 
 			// when
@@ -66,6 +70,7 @@ class AuthServiceTest {
 
 			// then
 			assertEquals("bearerToken", signup.getBearerToken());
+			verify(emailBloomFilter).put(email);
 		}
 
 		@Test
@@ -78,10 +83,9 @@ class AuthServiceTest {
 
 			SignupRequest signupRequest = new SignupRequest(email, password, userRole.name());
 
-			given(userRepository.existsByEmail(email)).willReturn(true);
-
-			User user = new User(email, "encodedPassword", userRole);
-			ReflectionTestUtils.setField(user, "id", 1L);
+			given(passwordEncoder.encode(password)).willReturn("encodedPassword");
+			given(userRepository.saveAndFlush(any())).willThrow(new DataIntegrityViolationException("Duplicate entry",
+				new ConstraintViolationException("Duplicate entry", null, "users.uk_users_email")));
 
 			// when
 			InvalidRequestException invalidRequestException = assertThrows(InvalidRequestException.class, () -> {
@@ -90,6 +94,32 @@ class AuthServiceTest {
 
 			// then
 			assertEquals("이미 존재하는 이메일입니다.", invalidRequestException.getMessage());
+			verify(emailBloomFilter, never()).put(any());
+		}
+
+		@Test
+		@DisplayName("signup 테스트 실패 - 이메일이 아닌 제약 위반은 그대로 던진다")
+		void signup_fail_otherConstraint() {
+			// given
+			String email = "test@email.com";
+			String password = "password";
+			UserRole userRole = UserRole.USER;
+
+			SignupRequest signupRequest = new SignupRequest(email, password, userRole.name());
+			DataIntegrityViolationException violation = new DataIntegrityViolationException("Column 'password' cannot be null",
+				new ConstraintViolationException("Column 'password' cannot be null", null, null));
+
+			given(passwordEncoder.encode(password)).willReturn("encodedPassword");
+			given(userRepository.saveAndFlush(any())).willThrow(violation);
+
+			// when
+			DataIntegrityViolationException exception = assertThrows(DataIntegrityViolationException.class, () -> {
+				authService.signup(signupRequest);
+			});
+
+			// then
+			assertSame(violation, exception);
+			verify(emailBloomFilter, never()).put(any());
 		}
 
 	}
@@ -107,6 +137,7 @@ class AuthServiceTest {
 			SigninRequest signinRequest = new SigninRequest(email, password);
 			User user = new User(email, "encodedPassword", userRole);
 
+			given(emailBloomFilter.mightContain(email)).willReturn(true);
 			given(userRepository.findByEmail(email)).willReturn(Optional.of(user));
 			given(passwordEncoder.matches(password, user.getPassword())).willReturn(true);
 			given(jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole())).willReturn("bearerToken");
@@ -118,6 +149,29 @@ class AuthServiceTest {
 			assertEquals("bearerToken", signin.getBearerToken());
 		}
 
+		@Test
+		@DisplayName("signin 테스트 성공 - 비용이 다른 해시는 다시 해시한다")
+		void signin_success_rehash() {
+			// given
+			String email = "test@email.com";
+			String password = "password";
+			SigninRequest signinRequest = new SigninRequest(email, password);
+			User user = new User(email, "oldHash", UserRole.USER);
+
+			given(emailBloomFilter.mightContain(email)).willReturn(true);
+			given(userRepository.findByEmail(email)).willReturn(Optional.of(user));
+			given(passwordEncoder.matches(password, "oldHash")).willReturn(true);
+			given(passwordEncoder.needsRehash("oldHash")).willReturn(true);
+			given(passwordEncoder.encode(password)).willReturn("newHash");
+
+			// when
+			authService.signin(signinRequest);
+
+			// then
+			assertEquals("newHash", user.getPassword());
+			verify(userRepository).save(user);
+		}
+
 		@Test
 		@DisplayName("signin 테스트 실패 - 가입되지 않은 유저")
 		void signin_fail_InvalidUser() {
@@ -126,6 +180,7 @@ class AuthServiceTest {
 			String password = "password";
 			SigninRequest signinRequest = new SigninRequest(email, password);
 
+			given(emailBloomFilter.mightContain(email)).willReturn(true);
 			given(userRepository.findByEmail(email)).willReturn(Optional.empty());
 
 			// when
@@ -137,6 +192,25 @@ class AuthServiceTest {
 			assertEquals("가입되지 않은 유저입니다.", invalidRequestException.getMessage());
 		}
 
+		@Test
+		@DisplayName("signin 테스트 실패 - Bloom filter 에 없는 이메일은 DB 를 조회하지 않는다")
+		void signin_fail_bloomFilterMiss() {
+			// given
+			String email = "test@email.com";
+			SigninRequest signinRequest = new SigninRequest(email, "password");
+
+			given(emailBloomFilter.mightContain(email)).willReturn(false);
+
+			// when
+			InvalidRequestException invalidRequestException = assertThrows(InvalidRequestException.class, () -> {
+				authService.signin(signinRequest);
+			});
+
+			// then
+			assertEquals("가입되지 않은 유저입니다.", invalidRequestException.getMessage());
+			verifyNoInteractions(userRepository, passwordEncoder);
+		}
+
 		@Test
 		@DisplayName("signin 테스트 실패 - 잘못된 비밀번호")
 		void signin_fail_InvalidPassword() {
@@ -147,6 +221,7 @@ class AuthServiceTest {
 			SigninRequest signinRequest = new SigninRequest(email, password);
 			User user = new User(email, "encodedPassword", userRole);
 
+			given(emailBloomFilter.mightContain(email)).willReturn(true);
 			given(userRepository.findByEmail(email)).willReturn(Optional.of(user));
 			given(passwordEncoder.matches(password, user.getPassword())).willReturn(false);
 
@@ -0,0 +1,62 @@
+package org.example.expert.domain.auth.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.example.expert.config.PasswordEncoder;
+import org.example.expert.domain.auth.dto.request.SignupRequest;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.user.service.EmailBloomFilter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class AuthServiceTransactionTest {
+
+	@Autowired
+	private AuthService authService;
+	@Autowired
+	private UserRepository userRepository;
+	@Autowired
+	private HikariDataSource dataSource;
+	@MockBean
+	private PasswordEncoder passwordEncoder;
+	// 기동 후 별도 스레드에서 users 를 읽는 필터가 커넥션 수를 흔들지 않도록 대신합니다.
+	@MockBean
+	private EmailBloomFilter emailBloomFilter;
+
+	@Test
+	@DisplayName("비밀번호 해시 중에는 트랜잭션도, 사용 중인 DB 커넥션도 없다")
+	void signup_passwordEncodedWithoutConnection() {
+		// given
+		String email = "signup-tx@email.com";
+		AtomicInteger activeConnections = new AtomicInteger(-1);
+		AtomicReference<Boolean> transactionActive = new AtomicReference<>();
+		given(passwordEncoder.encode("password")).willAnswer(invocation -> {
+			activeConnections.set(dataSource.getHikariPoolMXBean().getActiveConnections());
+			transactionActive.set(TransactionSynchronizationManager.isActualTransactionActive());
+			return "encodedPassword";
+		});
+
+		// when
+		authService.signup(new SignupRequest(email, "password", UserRole.USER.name()));
+
+		// then
+		assertEquals(0, activeConnections.get());
+		assertFalse(transactionActive.get());
+		assertTrue(userRepository.findByEmail(email).isPresent());
+		verify(emailBloomFilter).put(email);
+	}
+}
@@ -0,0 +1,75 @@
+package org.example.expert.domain.auth.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.example.expert.domain.auth.exception.LoginRateLimitException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class LoginRateLimiterTest {
+
+	private final AtomicLong nanos = new AtomicLong();
+	private SimpleMeterRegistry meterRegistry;
+	private LoginRateLimiter loginRateLimiter;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		loginRateLimiter = new LoginRateLimiter(
+			3, Duration.ofMinutes(1), 10, Duration.ofMinutes(1), 1000, meterRegistry, nanos::get);
+	}
+
+	@Test
+	@DisplayName("같은 이메일은 capacity 번까지 허용하고 그 뒤에는 Retry-After 와 함께 거절한다")
+	void acquire_emailLimit() {
+		// given
+		for (int i = 0; i < 3; i++) {
+			loginRateLimiter.acquire("a@a.com", "10.0.0." + i);
+		}
+
+		// when
+		LoginRateLimitException exception = assertThrows(LoginRateLimitException.class,
+			() -> loginRateLimiter.acquire("A@a.com ", "10.0.0.9"));
+
+		// then
+		assertEquals(20, exception.getRetryAfterSeconds());
+		assertEquals(1, meterRegistry.get("auth.signin.throttled").tag("key", "email").counter().count());
+		assertDoesNotThrow(() -> loginRateLimiter.acquire("b@a.com", "10.0.0.9"));
+	}
+
+	@Test
+	@DisplayName("시간이 지나면 토큰이 다시 채워진다")
+	void acquire_refill() {
+		// given
+		for (int i = 0; i < 3; i++) {
+			loginRateLimiter.acquire("a@a.com", null);
+		}
+		assertThrows(LoginRateLimitException.class, () -> loginRateLimiter.acquire("a@a.com", null));
+
+		// when
+		nanos.addAndGet(Duration.ofSeconds(20).toNanos());
+
+		// then
+		assertDoesNotThrow(() -> loginRateLimiter.acquire("a@a.com", null));
+		assertThrows(LoginRateLimitException.class, () -> loginRateLimiter.acquire("a@a.com", null));
+	}
+
+	@Test
+	@DisplayName("같은 IP 에서 여러 이메일로 시도해도 IP 한도에서 거절한다")
+	void acquire_ipLimit() {
+		// given
+		for (int i = 0; i < 10; i++) {
+			loginRateLimiter.acquire("user" + i + "@a.com", "10.0.0.1");
+		}
+
+		// when & then
+		assertThrows(LoginRateLimitException.class, () -> loginRateLimiter.acquire("new@a.com", "10.0.0.1"));
+		assertEquals(1, meterRegistry.get("auth.signin.throttled").tag("key", "ip").counter().count());
+	}
+}
@@ -0,0 +1,152 @@
+package org.example.expert.domain.todo.controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import org.example.expert.client.WeatherClient;
+import org.example.expert.config.JwtUtil;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class TodoConditionalGetTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+	@Autowired
+	private JwtUtil jwtUtil;
+	@Autowired
+	private UserRepository userRepository;
+	@Autowired
+	private TodoRepository todoRepository;
+	@Autowired
+	private CommentRepository commentRepository;
+	@Autowired
+	private ManagerRepository managerRepository;
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+	@MockBean
+	private WeatherClient weatherClient;
+
+	private User user;
+	private Todo todo;
+	private String bearerToken;
+
+	@BeforeEach
+	void setUp() {
+		user = userRepository.save(new User("etag-" + System.nanoTime() + "@email.com", "password", UserRole.USER));
+		todo = todoRepository.save(new Todo("title", "contents", "Sunny", user));
+		bearerToken = jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole());
+	}
+
+	@Test
+	@DisplayName("할 일의 ETag 가 같으면 304, 수정되면 새 ETag 와 함께 200 을 반환한다")
+	void getTodo_conditional() throws Exception {
+		// given
+		String url = "/todos/" + todo.getId();
+		String eTag = getETag(url);
+
+		// when & then
+		mockMvc.perform(get(url).header(HttpHeaders.AUTHORIZATION, bearerToken)
+				.header(HttpHeaders.IF_NONE_MATCH, eTag))
+			.andExpect(status().isNotModified())
+			.andExpect(header().string(HttpHeaders.ETAG, eTag))
+			.andExpect(content().string(""));
+
+		transactionTemplate.executeWithoutResult(status -> todoRepository.findById(todo.getId()).orElseThrow()
+			.update("new title", "new contents"));
+
+		mockMvc.perform(get(url).header(HttpHeaders.AUTHORIZATION, bearerToken)
+				.header(HttpHeaders.IF_NONE_MATCH, eTag))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.title").value("new title"));
+		assertNotEquals(eTag, getETag(url));
+	}
+
+	@Test
+	@DisplayName("댓글이 추가되거나 수정되면 댓글 목록의 ETag 가 바뀐다")
+	void getComments_conditional() throws Exception {
+		// given
+		String url = "/todos/" + todo.getId() + "/comments";
+		String emptyETag = getETag(url);
+		assertNotModified(url, emptyETag);
+
+		// when
+		Comment comment = commentRepository.save(new Comment("contents", user, todo));
+		String addedETag = getETag(url);
+		transactionTemplate.executeWithoutResult(status -> commentRepository.findById(comment.getId()).orElseThrow()
+			.update("new contents"));
+		String updatedETag = getETag(url);
+
+		// then
+		assertNotEquals(emptyETag, addedETag);
+		assertNotEquals(addedETag, updatedETag);
+		assertNotModified(url, updatedETag);
+	}
+
+	@Test
+	@DisplayName("담당자가 추가되거나 삭제되면 담당자 목록의 ETag 가 바뀐다")
+	void getManagers_conditional() throws Exception {
+		// given
+		User managerUser = userRepository.save(
+			new User("manager-" + System.nanoTime() + "@email.com", "password", UserRole.USER));
+		String url = "/todos/" + todo.getId() + "/managers";
+		String emptyETag = getETag(url);
+
+		// when
+		Manager manager = managerRepository.save(new Manager(managerUser, todo));
+		String addedETag = getETag(url);
+		managerRepository.delete(manager);
+		String deletedETag = getETag(url);
+
+		// then
+		assertNotEquals(emptyETag, addedETag);
+		assertNotEquals(addedETag, deletedETag);
+		assertNotModified(url, deletedETag);
+	}
+
+	@Test
+	@DisplayName("없는 할 일은 버전 조회에서 기존과 같은 400 을 반환한다")
+	void getTodo_notFound() throws Exception {
+		mockMvc.perform(get("/todos/" + Long.MAX_VALUE).header(HttpHeaders.AUTHORIZATION, bearerToken)
+				.header(HttpHeaders.IF_NONE_MATCH, "W/\"0-0-0\""))
+			.andExpect(status().isBadRequest());
+		mockMvc.perform(get("/todos/" + Long.MAX_VALUE + "/managers").header(HttpHeaders.AUTHORIZATION, bearerToken))
+			.andExpect(status().isBadRequest());
+	}
+
+	private String getETag(String url) throws Exception {
+		String eTag = mockMvc.perform(get(url).header(HttpHeaders.AUTHORIZATION, bearerToken))
+			.andExpect(status().isOk())
+			.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+		assertNotNull(eTag);
+		return eTag;
+	}
+
+	private void assertNotModified(String url, String eTag) throws Exception {
+		mockMvc.perform(get(url).header(HttpHeaders.AUTHORIZATION, bearerToken)
+				.header(HttpHeaders.IF_NONE_MATCH, eTag))
+			.andExpect(status().isNotModified());
+	}
+}
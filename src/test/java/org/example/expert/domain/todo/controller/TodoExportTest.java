@@ -0,0 +1,102 @@
+package org.example.expert.domain.todo.controller;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.example.expert.client.WeatherClient;
+import org.example.expert.config.JwtUtil;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// 페이지 경계를 지나도 빠짐없이 이어서 읽는지 보도록 페이지를 작게 잡습니다.
+@SpringBootTest(properties = "todo.export.page-size=2")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class TodoExportTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+	@Autowired
+	private JwtUtil jwtUtil;
+	@Autowired
+	private ObjectMapper objectMapper;
+	@Autowired
+	private UserRepository userRepository;
+	@Autowired
+	private TodoRepository todoRepository;
+	@Autowired
+	private CommentRepository commentRepository;
+	@MockBean
+	private WeatherClient weatherClient;
+
+	@Test
+	@DisplayName("할 일을 id 순서로 한 줄에 하나씩 작성자 이메일, 댓글 수와 함께 내보낸다")
+	void exportTodos() throws Exception {
+		// given
+		User admin = userRepository.save(new User("export-admin@email.com", "password", UserRole.ADMIN));
+		User owner = userRepository.save(new User("export-owner@email.com", "password", UserRole.USER));
+		Todo withComments = todoRepository.save(new Todo("title \"quoted\"\nline", "contents", "Sunny", owner));
+		Todo withoutComments = todoRepository.save(new Todo("plain", "contents", "Rainy", owner));
+		Todo last = todoRepository.save(new Todo("last", "contents", "Sunny", owner));
+		for (int i = 0; i < 3; i++) {
+			commentRepository.save(new Comment("comment" + i, owner, withComments));
+		}
+
+		// when
+		String body = mockMvc.perform(get("/admin/todos/export")
+				.header(HttpHeaders.AUTHORIZATION, jwtUtil.createToken(admin.getId(), admin.getEmail(), admin.getUserRole())))
+			.andExpect(status().isOk())
+			.andExpect(header().string(HttpHeaders.CONTENT_TYPE, "application/x-ndjson;charset=UTF-8"))
+			.andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+		// then
+		assertTrue(body.endsWith("\n"));
+		List<JsonNode> rows = Arrays.stream(body.split("\n")).map(this::readTree).toList();
+		assertThat(rows).extracting(row -> row.get("id").asLong()).isSorted().doesNotHaveDuplicates()
+			.contains(withComments.getId(), withoutComments.getId(), last.getId());
+		assertEquals(todoRepository.count(), rows.size());
+
+		Map<Long, JsonNode> byId = rows.stream()
+			.collect(Collectors.toMap(row -> row.get("id").asLong(), Function.identity()));
+		JsonNode first = byId.get(withComments.getId());
+		assertEquals("title \"quoted\"\nline", first.get("title").asText());
+		assertEquals("export-owner@email.com", first.get("userEmail").asText());
+		assertEquals(3, first.get("commentCount").asLong());
+		assertEquals(0, byId.get(withoutComments.getId()).get("commentCount").asLong());
+		assertEquals("Rainy", byId.get(withoutComments.getId()).get("weather").asText());
+	}
+
+	private JsonNode readTree(String line) {
+		try {
+			return objectMapper.readTree(line);
+		} catch (Exception e) {
+			throw new AssertionError("NDJSON 한 줄이 JSON 이 아닙니다: " + line, e);
+		}
+	}
+}
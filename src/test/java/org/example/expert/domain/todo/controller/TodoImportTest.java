@@ -0,0 +1,108 @@
+package org.example.expert.domain.todo.controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.example.expert.client.WeatherClient;
+import org.example.expert.config.JwtUtil;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.dto.request.TodoImportFormat;
+import org.example.expert.domain.todo.service.TodoImportService;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest(properties = "todo.import.max-size=200B")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class TodoImportTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+	@Autowired
+	private JwtUtil jwtUtil;
+	@Autowired
+	private UserRepository userRepository;
+	@Autowired
+	private TodoImportService todoImportService;
+	@MockBean
+	private WeatherClient weatherClient;
+
+	@Test
+	@DisplayName("요청 본문의 CSV 를 Content-Type 으로 알아보고 가져온 결과를 돌려준다")
+	void importTodos() throws Exception {
+		// given
+		User admin = userRepository.save(new User("import-admin@email.com", "password", UserRole.ADMIN));
+		String csv = "title,contents,userId,weather\n"
+			+ "first,contents," + admin.getId() + ",Sunny\n"
+			+ "second,contents," + Long.MAX_VALUE + ",Sunny\n";
+
+		// when & then
+		mockMvc.perform(post("/admin/todos/import").contentType("text/csv").content(csv.getBytes(StandardCharsets.UTF_8))
+				.header(HttpHeaders.AUTHORIZATION, jwtUtil.createToken(admin.getId(), admin.getEmail(), admin.getUserRole())))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.importedTodos").value(1))
+			.andExpect(jsonPath("$.rejectedRows").value(1))
+			.andExpect(jsonPath("$.chunks").value(1))
+			.andExpect(jsonPath("$.rejections[0].line").value(3));
+		verify(weatherClient, never()).getTodayWeather();
+	}
+
+	@Test
+	@DisplayName("지원하지 않는 형식이면 400")
+	void importTodos_unknownFormat() throws Exception {
+		// given
+		User admin = userRepository.save(new User("import-admin-format@email.com", "password", UserRole.ADMIN));
+
+		// when & then
+		mockMvc.perform(post("/admin/todos/import").contentType("text/xml").content(new byte[0]).param("format", "xml")
+				.header(HttpHeaders.AUTHORIZATION, jwtUtil.createToken(admin.getId(), admin.getEmail(), admin.getUserRole())))
+			.andExpect(status().isBadRequest());
+	}
+
+	@Test
+	@DisplayName("Content-Length 가 todo.import.max-size 를 넘으면 읽기 전에 400")
+	void importTodos_contentLengthTooLarge() throws Exception {
+		// given
+		User admin = userRepository.save(new User("import-admin-size@email.com", "password", UserRole.ADMIN));
+		byte[] body = oversizedCsv();
+
+		// when & then
+		mockMvc.perform(post("/admin/todos/import").contentType("text/csv").content(body)
+				.header(HttpHeaders.AUTHORIZATION, jwtUtil.createToken(admin.getId(), admin.getEmail(), admin.getUserRole())))
+			.andExpect(status().isBadRequest())
+			.andExpect(jsonPath("$.message").value("가져오기 파일이 최대 크기(200 bytes)를 넘습니다."));
+	}
+
+	@Test
+	@DisplayName("길이를 모르는 본문은 읽다가 todo.import.max-size 를 넘는 순간 중단한다")
+	void importTodos_streamTooLarge() {
+		// given
+		byte[] body = oversizedCsv();
+
+		// when
+		InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+			() -> todoImportService.importTodos(new ByteArrayInputStream(body), -1, TodoImportFormat.CSV));
+
+		// then
+		assertEquals("가져오기 파일이 최대 크기(200 bytes)를 넘습니다.", exception.getMessage());
+	}
+
+	private static byte[] oversizedCsv() {
+		return ("title,contents,userId\n" + "x".repeat(300) + ",contents,1\n").getBytes(StandardCharsets.UTF_8);
+	}
+}
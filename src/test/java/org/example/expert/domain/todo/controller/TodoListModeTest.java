@@ -0,0 +1,62 @@
+package org.example.expert.domain.todo.controller;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import org.example.expert.client.WeatherClient;
+import org.example.expert.config.JwtUtil;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class TodoListModeTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+	@Autowired
+	private JwtUtil jwtUtil;
+	@Autowired
+	private UserRepository userRepository;
+	@MockBean
+	private WeatherClient weatherClient;
+
+	private String bearerToken;
+
+	@BeforeEach
+	void setUp() {
+		User user = userRepository.save(new User("list-mode-" + System.nanoTime() + "@email.com", "password", UserRole.USER));
+		bearerToken = jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole());
+	}
+
+	@Test
+	@DisplayName("cursor 와 ids 를 함께 보내면 400")
+	void getTodos_cursorAndIds() throws Exception {
+		mockMvc.perform(get("/todos").param("cursor", "").param("ids", "1,2")
+				.header(HttpHeaders.AUTHORIZATION, bearerToken))
+			.andExpect(status().isBadRequest());
+	}
+
+	@Test
+	@DisplayName("커서 모드의 size 가 상한을 넘으면 400")
+	void getTodosByCursor_sizeTooLarge() throws Exception {
+		mockMvc.perform(get("/todos").param("cursor", "").param("size", String.valueOf(Integer.MAX_VALUE))
+				.header(HttpHeaders.AUTHORIZATION, bearerToken))
+			.andExpect(status().isBadRequest());
+		mockMvc.perform(get("/todos").param("cursor", "").param("size", "100")
+				.header(HttpHeaders.AUTHORIZATION, bearerToken))
+			.andExpect(status().isOk());
+	}
+}
@@ -0,0 +1,103 @@
+package org.example.expert.domain.todo.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.request.TodoBulkSaveRequest;
+import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoBulkSaveResponse;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class TodoBulkSaveTest {
+
+	private static final int TODOS = 1000;
+
+	@Autowired
+	private TodoService todoService;
+	@Autowired
+	private TodoRepository todoRepository;
+	@Autowired
+	private ManagerRepository managerRepository;
+	@Autowired
+	private UserRepository userRepository;
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+	@MockBean
+	private WeatherClient weatherClient;
+
+	@Test
+	@DisplayName("할 일과 작성자 담당자를 행마다가 아니라 배치 INSERT 로 저장한다")
+	void saveTodos_batched() {
+		// given
+		User user = userRepository.save(new User("bulk@email.com", "password", UserRole.USER));
+		AuthUser authUser = new AuthUser(user.getId(), user.getEmail(), user.getUserRole());
+		LocalDate past = LocalDate.of(2024, 1, 1);
+		List<TodoSaveRequest> requests = IntStream.range(0, TODOS)
+			.mapToObj(i -> new TodoSaveRequest("title" + i, "contents", i % 2 == 0 ? null : past))
+			.toList();
+		given(weatherClient.getTodayWeather()).willReturn("Sunny");
+		given(weatherClient.getWeather(past)).willReturn("Rainy");
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+
+		// when
+		TodoBulkSaveResponse response = todoService.saveTodos(authUser, new TodoBulkSaveRequest(requests));
+
+		// then
+		assertEquals(TODOS, response.getCount());
+		assertThat(response.getIds()).doesNotHaveDuplicates();
+		assertEquals(2L * TODOS, statistics.getEntityInsertCount());
+		// IDENTITY 로 행마다 INSERT 하면 문장을 2000 번 준비합니다. 배치에서는 INSERT 문 종류마다 한 번만 준비합니다.
+		// (id 블록을 받는 쿼리는 별도 작업으로 실행되어 여기에 세지 않습니다.)
+		assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(4);
+		verify(weatherClient, times(1)).getTodayWeather();
+		verify(weatherClient, times(1)).getWeather(past);
+
+		assertEquals("Rainy", todoRepository.findTodoById(response.getIds().get(1)).orElseThrow().getWeather());
+		assertThat(managerRepository.findByTodoIdsWithUser(response.getIds()))
+			.hasSize(TODOS)
+			.allMatch(manager -> manager.getUser().getId().equals(user.getId()));
+	}
+
+	@Test
+	@DisplayName("기존 방식으로 저장한 할 일과 id 가 겹치지 않는다")
+	void saveTodo_afterBulk() {
+		// given
+		User user = userRepository.save(new User("bulk-single@email.com", "password", UserRole.USER));
+		AuthUser authUser = new AuthUser(user.getId(), user.getEmail(), user.getUserRole());
+		given(weatherClient.getTodayWeather()).willReturn("Sunny");
+
+		// when
+		Long single = todoService.saveTodo(authUser, new TodoSaveRequest("single", "contents")).getId();
+		List<Long> bulk = todoService.saveTodos(authUser,
+			new TodoBulkSaveRequest(List.of(new TodoSaveRequest("bulk", "contents")))).getIds();
+
+		// then
+		assertNotEquals(single, bulk.get(0));
+		assertEquals("single", todoRepository.findTodoById(single).orElseThrow().getTitle());
+		assertEquals("bulk", todoRepository.findTodoById(bulk.get(0)).orElseThrow().getTitle());
+	}
+}
@@ -0,0 +1,104 @@
+package org.example.expert.domain.todo.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class TodoDetailCacheTest {
+
+	@Autowired
+	private TodoService todoService;
+	@Autowired
+	private TodoDetailCache todoDetailCache;
+	@Autowired
+	private TodoRepository todoRepository;
+	@Autowired
+	private UserRepository userRepository;
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+	@Autowired
+	private MeterRegistry meterRegistry;
+	@MockBean
+	private WeatherClient weatherClient;
+
+	@Test
+	@DisplayName("두 번째 조회부터는 캐시에서 읽는다")
+	void getTodo_cached() {
+		// given
+		long todoId = saveTodo("cached@email.com");
+		double hitsBefore = meterRegistry.get("cache.gets").tag("cache", "todoDetail").tag("result", "hit")
+			.functionCounter().count();
+
+		// when
+		TodoResponse first = todoService.getTodo(todoId);
+		TodoResponse second = todoService.getTodo(todoId);
+
+		// then
+		assertSame(first, second);
+		assertEquals(hitsBefore + 1, meterRegistry.get("cache.gets").tag("cache", "todoDetail").tag("result", "hit")
+			.functionCounter().count());
+	}
+
+	@Test
+	@DisplayName("할 일이 수정되면 커밋 후 캐시에서 지워진다")
+	void getTodo_evictedOnUpdate() {
+		// given
+		long todoId = saveTodo("update@email.com");
+		todoService.getTodo(todoId);
+
+		// when
+		transactionTemplate.executeWithoutResult(status -> todoRepository.findById(todoId).orElseThrow()
+			.update("new title", "new contents"));
+
+		// then
+		assertEquals("new title", todoService.getTodo(todoId).getTitle());
+	}
+
+	@Test
+	@DisplayName("작성자의 역할이 바뀌어도 캐시는 그대로 두고, 이메일 변경으로 지우면 그 작성자의 할 일만 지워진다")
+	void getTodo_userUpdate() {
+		// given
+		long todoId = saveTodo("owner@email.com");
+		long otherTodoId = saveTodo("other@email.com");
+		TodoResponse cached = todoService.getTodo(todoId);
+		TodoResponse otherCached = todoService.getTodo(otherTodoId);
+
+		// when
+		transactionTemplate.executeWithoutResult(status -> userRepository.findById(cached.getUser().getId())
+			.orElseThrow().updateRole(UserRole.ADMIN));
+
+		// then
+		assertSame(cached, todoService.getTodo(todoId));
+
+		// when
+		todoDetailCache.evictByUserId(cached.getUser().getId());
+
+		// then
+		assertNotSame(cached, todoService.getTodo(todoId));
+		assertSame(otherCached, todoService.getTodo(otherTodoId));
+	}
+
+	private long saveTodo(String email) {
+		User user = userRepository.save(new User(email, "password", UserRole.USER));
+		return todoService.saveTodo(new AuthUser(user.getId(), user.getEmail(), user.getUserRole()),
+			new TodoSaveRequest("title", "contents")).getId();
+	}
+}
@@ -0,0 +1,83 @@
+package org.example.expert.domain.todo.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.response.TodoFullResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class TodoFullViewTest {
+
+	@Autowired
+	private TodoService todoService;
+	@Autowired
+	private TodoRepository todoRepository;
+	@Autowired
+	private ManagerRepository managerRepository;
+	@Autowired
+	private CommentRepository commentRepository;
+	@Autowired
+	private UserRepository userRepository;
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Test
+	@DisplayName("할 일, 담당자, 댓글 첫 페이지를 세 번의 쿼리로 읽고, 할 일이 캐시에 있으면 두 번으로 읽는다")
+	void getTodoFull() {
+		// given
+		User owner = userRepository.save(new User("full-owner@email.com", "password", UserRole.USER));
+		User manager = userRepository.save(new User("full-manager@email.com", "password", UserRole.USER));
+		Todo todo = todoRepository.save(new Todo("title", "contents", "Sunny", owner));
+		managerRepository.save(new Manager(manager, todo));
+		for (int i = 0; i < 25; i++) {
+			commentRepository.save(new Comment("comment" + i, i % 2 == 0 ? owner : manager, todo));
+		}
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+		// when
+		statistics.clear();
+		TodoFullResponse first = todoService.getTodoFull(todo.getId());
+		long firstQueries = statistics.getPrepareStatementCount();
+
+		statistics.clear();
+		todoService.getTodoFull(todo.getId());
+		long secondQueries = statistics.getPrepareStatementCount();
+
+		// then
+		assertEquals("title", first.getTodo().getTitle());
+		assertThat(first.getManagers()).extracting(response -> response.getUser().getEmail())
+			.containsExactlyInAnyOrder("full-owner@email.com", "full-manager@email.com");
+		assertThat(first.getComments()).hasSize(20);
+		assertThat(first.getComments()).extracting(CommentResponse::getContents).startsWith("comment0", "comment1");
+		assertTrue(first.isHasMoreComments());
+		assertEquals(3, firstQueries);
+		assertEquals(2, secondQueries);
+	}
+
+	@Test
+	@DisplayName("없는 할 일은 400")
+	void getTodoFull_notFound() {
+		assertThrows(InvalidRequestException.class, () -> todoService.getTodoFull(Long.MAX_VALUE));
+	}
+}
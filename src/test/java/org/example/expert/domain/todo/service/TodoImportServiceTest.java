@@ -0,0 +1,202 @@
+package org.example.expert.domain.todo.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.todo.dto.request.TodoImportFormat;
+import org.example.expert.domain.todo.dto.response.TodoImportRejection;
+import org.example.expert.domain.todo.dto.response.TodoImportResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest(properties = {
+	"spring.jpa.properties.hibernate.generate_statistics=true",
+	"todo.import.chunk-size=50",
+	"todo.import.max-row-length=500"
+})
+@ActiveProfiles("test")
+class TodoImportServiceTest {
+
+	private static final LocalDate PAST = LocalDate.of(2024, 1, 1);
+
+	@Autowired
+	private TodoImportService todoImportService;
+	@Autowired
+	private TodoRepository todoRepository;
+	@Autowired
+	private CommentRepository commentRepository;
+	@Autowired
+	private UserRepository userRepository;
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+	@MockBean
+	private WeatherClient weatherClient;
+
+	private User owner;
+	private User commenter;
+
+	@BeforeEach
+	void setUp() {
+		owner = userRepository.save(new User("import-owner-" + System.nanoTime() + "@email.com", "password", UserRole.USER));
+		commenter = userRepository.save(new User("import-commenter-" + System.nanoTime() + "@email.com", "password", UserRole.USER));
+		given(weatherClient.getTodayWeather()).willReturn("Sunny");
+		given(weatherClient.getWeather(PAST)).willReturn("Rainy");
+	}
+
+	@Test
+	@DisplayName("NDJSON 을 청크마다 배치 INSERT 로 저장하고 잘못된 행은 줄 번호와 함께 거절한다")
+	void importTodos_ndjson() throws Exception {
+		// given
+		StringBuilder file = new StringBuilder();
+		for (int i = 0; i < 120; i++) {
+			String weather = switch (i % 3) {
+				case 0 -> ",\"weather\":\"Snowy\"";
+				case 1 -> ",\"weatherDate\":\"2024-01-01\"";
+				default -> "";
+			};
+			file.append("{\"title\":\"import").append(i).append("\",\"contents\":\"contents\",\"userId\":")
+				.append(owner.getId()).append(weather)
+				.append(",\"comments\":[{\"contents\":\"c1\"},{\"contents\":\"c2\",\"userId\":")
+				.append(commenter.getId()).append("}]}\n");
+		}
+		file.append("\n");
+		file.append("{not json\n");
+		file.append("{\"title\":\" \",\"contents\":\"contents\",\"userId\":").append(owner.getId()).append("}\n");
+		file.append("{\"title\":\"t\",\"contents\":\"contents\",\"userId\":").append(Long.MAX_VALUE).append("}\n");
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+
+		// when
+		TodoImportResponse response = todoImportService.importTodos(stream(file.toString()), -1, TodoImportFormat.NDJSON);
+
+		// then
+		assertEquals(120, response.getImportedTodos());
+		assertEquals(240, response.getImportedComments());
+		assertEquals(3, response.getRejectedRows());
+		assertEquals(3, response.getChunks());
+		assertThat(response.getRejections()).extracting(TodoImportRejection::getLine).containsExactly(122L, 123L, 124L);
+		assertThat(response.getRejections().get(1).getReason()).startsWith("title:");
+		assertThat(response.getRejections().get(2).getReason()).contains(String.valueOf(Long.MAX_VALUE));
+
+		// 할 일, 담당자, 댓글 INSERT 가 행마다가 아니라 청크마다 종류별로 한 번씩 준비됩니다 (+ 청크마다 유저 확인 쿼리).
+		assertEquals(120 * 2 + 240, statistics.getEntityInsertCount());
+		assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3 * 4);
+		// 같은 날짜 날씨는 청크마다 한 번만 조회하고, 값이 있는 행은 조회하지 않습니다.
+		verify(weatherClient, times(3)).getWeather(PAST);
+		verify(weatherClient, times(3)).getTodayWeather();
+
+		List<Todo> imported = todoRepository.findAll().stream()
+			.filter(todo -> todo.getTitle().startsWith("import"))
+			.toList();
+		assertThat(imported).hasSize(120);
+		assertThat(imported).extracting(Todo::getWeather).containsOnly("Snowy", "Rainy", "Sunny");
+		assertEquals(2, commentRepository.findVersionByTodoId(imported.get(0).getId()).getCount());
+	}
+
+	@Test
+	@DisplayName("CSV 는 헤더로 열을 찾고, 따옴표 안의 쉼표와 줄바꿈을 읽으며 형식이 틀린 행을 거절한다")
+	void importTodos_csv() throws Exception {
+		// given
+		String file = "\uFEFFuserId,title,contents,weatherDate\r\n"
+			+ owner.getId() + ",\"csv, \"\"quoted\"\"\",\"two\nlines\",\r\n"
+			+ "abc,title,contents,\r\n"
+			+ owner.getId() + ",title,contents,01/01/2024\r\n"
+			+ owner.getId() + ",csv past,contents,2024-01-01\r\n";
+
+		// when
+		TodoImportResponse response = todoImportService.importTodos(stream(file), -1, TodoImportFormat.CSV);
+
+		// then
+		assertEquals(2, response.getImportedTodos());
+		assertThat(response.getRejections()).extracting(TodoImportRejection::getLine).containsExactly(4L, 5L);
+		assertThat(response.getRejections()).extracting(TodoImportRejection::getReason)
+			.containsExactly("userId 가 숫자가 아닙니다.", "weatherDate 형식이 올바르지 않습니다(yyyy-MM-dd).");
+		assertThat(todoRepository.findAll())
+			.anyMatch(todo -> todo.getTitle().equals("csv, \"quoted\"") && todo.getContents().equals("two\nlines")
+				&& todo.getWeather().equals("Sunny"))
+			.anyMatch(todo -> todo.getTitle().equals("csv past") && todo.getWeather().equals("Rainy"));
+	}
+
+	@Test
+	@DisplayName("날씨 조회에 실패한 날짜의 행만 거절하고 나머지는 계속 가져온다")
+	void importTodos_weatherLookupFails() throws Exception {
+		// given
+		LocalDate missing = LocalDate.of(2024, 7, 1);
+		given(weatherClient.getWeather(missing)).willThrow(new ServerException(missing + " 에 해당하는 날씨 데이터를 찾을 수 없습니다."));
+		String file = "{\"title\":\"ok\",\"contents\":\"contents\",\"userId\":" + owner.getId() + "}\n"
+			+ "{\"title\":\"missing\",\"contents\":\"contents\",\"userId\":" + owner.getId() + ",\"weatherDate\":\"2024-07-01\"}\n"
+			+ "{\"title\":\"missing again\",\"contents\":\"contents\",\"userId\":" + owner.getId() + ",\"weatherDate\":\"2024-07-01\"}\n"
+			+ "{\"title\":\"past\",\"contents\":\"contents\",\"userId\":" + owner.getId() + ",\"weatherDate\":\"2024-01-01\"}\n";
+
+		// when
+		TodoImportResponse response = todoImportService.importTodos(stream(file), -1, TodoImportFormat.NDJSON);
+
+		// then
+		assertEquals(2, response.getImportedTodos());
+		assertThat(response.getRejections()).extracting(TodoImportRejection::getLine).containsExactly(2L, 3L);
+		assertThat(response.getRejections().get(0).getReason()).startsWith("날씨를 조회하지 못했습니다 (2024-07-01)");
+		verify(weatherClient, times(1)).getWeather(missing);
+	}
+
+	@Test
+	@DisplayName("최대 길이를 넘는 행은 버퍼에 모두 담지 않고 거절한 뒤 다음 줄부터 이어서 읽는다")
+	void importTodos_rowTooLong() throws Exception {
+		// given
+		String longText = "x".repeat(600);
+		String ndjson = "{\"title\":\"" + longText + "\",\"contents\":\"contents\",\"userId\":" + owner.getId() + "}\n"
+			+ "{\"title\":\"after long\",\"contents\":\"contents\",\"userId\":" + owner.getId() + "}\n";
+		// 닫히지 않은 따옴표가 다음 줄을 삼키다가 최대 길이에서 끊깁니다.
+		String csv = "title,contents,userId\n"
+			+ "\"unclosed,contents," + owner.getId() + "\n"
+			+ longText + "\n"
+			+ "after unclosed,contents," + owner.getId() + "\n";
+
+		// when
+		TodoImportResponse ndjsonResponse = todoImportService.importTodos(stream(ndjson), -1, TodoImportFormat.NDJSON);
+		TodoImportResponse csvResponse = todoImportService.importTodos(stream(csv), -1, TodoImportFormat.CSV);
+
+		// then
+		assertEquals(1, ndjsonResponse.getImportedTodos());
+		assertThat(ndjsonResponse.getRejections()).extracting(TodoImportRejection::getLine).containsExactly(1L);
+		assertEquals("행이 너무 깁니다(최대 500자).", ndjsonResponse.getRejections().get(0).getReason());
+		assertEquals(1, csvResponse.getImportedTodos());
+		assertThat(csvResponse.getRejections()).extracting(TodoImportRejection::getLine).containsExactly(2L);
+		assertThat(todoRepository.findAll()).extracting(Todo::getTitle).contains("after long", "after unclosed");
+	}
+
+	@Test
+	@DisplayName("CSV 헤더에 필수 열이 없으면 400")
+	void importTodos_csvMissingColumn() {
+		assertThrows(InvalidRequestException.class,
+			() -> todoImportService.importTodos(stream("title,contents\nt,c\n"), -1, TodoImportFormat.CSV));
+	}
+
+	private static InputStream stream(String text) {
+		return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+	}
+}
@@ -0,0 +1,120 @@
+package org.example.expert.domain.todo.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.test.context.ActiveProfiles;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class TodoListCountsTest {
+
+	private static final int PAGE_SIZE = 100;
+
+	@Autowired
+	private TodoService todoService;
+	@Autowired
+	private TodoRepository todoRepository;
+	@Autowired
+	private ManagerRepository managerRepository;
+	@Autowired
+	private CommentRepository commentRepository;
+	@Autowired
+	private UserRepository userRepository;
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Statistics statistics;
+
+	@BeforeEach
+	void setUp() {
+		User owner = userRepository.save(new User("list-owner-" + System.nanoTime() + "@email.com", "password", UserRole.USER));
+		User manager = userRepository.save(new User("list-manager-" + System.nanoTime() + "@email.com", "password", UserRole.USER));
+		for (int i = 0; i < PAGE_SIZE; i++) {
+			// 작성자는 Todo 생성자에서 담당자로 함께 저장됩니다.
+			Todo todo = todoRepository.save(new Todo("title" + i, "contents", "Sunny", owner));
+			if (i % 2 == 0) {
+				managerRepository.save(new Manager(manager, todo));
+			}
+			for (int c = 0; c < i % 3; c++) {
+				commentRepository.save(new Comment("comment" + c, owner, todo));
+			}
+		}
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+	}
+
+	@Test
+	@DisplayName("100건 페이지의 댓글 수와 담당자 수를 행마다가 아니라 묶음 쿼리로 센다")
+	void getTodos_counts() {
+		// when
+		statistics.clear();
+		Page<TodoResponse> result = todoService.getTodos(1, PAGE_SIZE, false);
+
+		// then
+		// 페이지, COUNT, 댓글 수, 담당자 수
+		assertEquals(4, statistics.getPrepareStatementCount());
+		assertEquals(PAGE_SIZE, result.getContent().size());
+		Map<String, TodoResponse> byTitle = result.getContent().stream()
+			.collect(Collectors.toMap(TodoResponse::getTitle, Function.identity()));
+		assertEquals(2L, byTitle.get("title2").getCommentCount());
+		assertEquals(0L, byTitle.get("title3").getCommentCount());
+		assertEquals(2L, byTitle.get("title4").getManagerCount());
+		assertEquals(1L, byTitle.get("title5").getManagerCount());
+		assertNull(byTitle.get("title5").getManagers());
+	}
+
+	@Test
+	@DisplayName("담당자 목록을 함께 요청하면 IN 쿼리 한 번으로 읽고 지연 로딩하지 않는다")
+	void getTodos_includeManagers() {
+		// when
+		statistics.clear();
+		Page<TodoResponse> result = todoService.getTodos(1, PAGE_SIZE, true);
+
+		// then
+		// 페이지, COUNT, 댓글 수, 담당자 목록
+		assertEquals(4, statistics.getPrepareStatementCount());
+		TodoResponse withTwoManagers = result.getContent().stream()
+			.filter(todo -> todo.getTitle().equals("title4")).findFirst().orElseThrow();
+		assertEquals(2L, withTwoManagers.getManagerCount());
+		assertThat(withTwoManagers.getManagers()).extracting(manager -> manager.getUser().getEmail())
+			.allMatch(email -> email.startsWith("list-"));
+	}
+
+	@Test
+	@DisplayName("커서 모드도 행 수와 상관없이 같은 수의 쿼리로 센다")
+	void getTodosByCursor_counts() {
+		// when
+		statistics.clear();
+		List<TodoResponse> todos = todoService.getTodosByCursor("", PAGE_SIZE, false).getTodos();
+
+		// then
+		// 페이지, 댓글 수, 담당자 수
+		assertEquals(3, statistics.getPrepareStatementCount());
+		assertThat(todos).allMatch(todo -> todo.getCommentCount() != null && todo.getManagerCount() != null);
+	}
+}
@@ -0,0 +1,94 @@
+package org.example.expert.domain.todo.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import org.example.expert.domain.todo.dto.request.TodoCursor;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * 1000 번째 페이지를 OFFSET 방식과 커서 방식으로 읽는 시간을 H2 에서 비교합니다.
+ * ./gradlew benchmark 로 실행합니다.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+class TodoPaginationBenchmarkTest {
+
+	private static final int TODOS = 50_000;
+	private static final int USERS = 500;
+	private static final int PAGE = 1000;
+	private static final int SIZE = 10;
+	private static final int WARMUP = 50;
+	private static final int ITERATIONS = 200;
+
+	@Autowired
+	private TodoService todoService;
+	@Autowired
+	private UserRepository userRepository;
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void comparePage1000() {
+		List<Long> userIds = IntStream.range(0, USERS)
+			.mapToObj(i -> userRepository.save(new User("bench" + i + "@email.com", "password", UserRole.USER)).getId())
+			.toList();
+		LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+		jdbcTemplate.batchUpdate(
+			"INSERT INTO todos (title, contents, weather, user_id, created_at, modified_at) VALUES (?, ?, ?, ?, ?, ?)",
+			IntStream.range(0, TODOS)
+				.mapToObj(i -> new Object[] {"title" + i, "contents" + i, "맑음", userIds.get(i % USERS),
+					Timestamp.valueOf(base), Timestamp.valueOf(base.plusSeconds(i / 2))})
+				.toList());
+
+		// 1000 번째 페이지 바로 앞 항목의 커서
+		TodoCursor cursor = jdbcTemplate.queryForObject(
+			"SELECT modified_at, id FROM todos ORDER BY modified_at DESC, id DESC LIMIT 1 OFFSET ?",
+			(rs, rowNum) -> new TodoCursor(rs.getTimestamp(1).toLocalDateTime(), rs.getLong(2)),
+			(PAGE - 1) * SIZE - 1);
+		String encodedCursor = cursor.encode();
+
+		List<Long> offsetIds = todoService.getTodos(PAGE, SIZE).getContent().stream().map(TodoResponse::getId).toList();
+		List<Long> cursorIds = todoService.getTodosByCursor(encodedCursor, SIZE).getTodos().stream().map(TodoResponse::getId).toList();
+		assertThat(cursorIds).isEqualTo(offsetIds);
+
+		// 마이그레이션(V2)이 만든 인덱스를 지운 상태와 다시 만든 상태를 비교합니다.
+		jdbcTemplate.execute("DROP INDEX idx_todos_modified_at_id");
+		report("no index", encodedCursor);
+		jdbcTemplate.execute("CREATE INDEX idx_todos_modified_at_id ON todos (modified_at, id)");
+		report("(modified_at, id) index", encodedCursor);
+	}
+
+	private void report(String name, String cursor) {
+		double offsetMicros = measure(() -> todoService.getTodos(PAGE, SIZE));
+		double cursorMicros = measure(() -> todoService.getTodosByCursor(cursor, SIZE));
+		System.out.printf("[%s] %d rows, page %d x %d: offset %.0f us/call, cursor %.0f us/call%n",
+			name, TODOS, PAGE, SIZE, offsetMicros, cursorMicros);
+	}
+
+	private static double measure(Supplier<?> call) {
+		for (int i = 0; i < WARMUP; i++) {
+			call.get();
+		}
+		long start = System.nanoTime();
+		for (int i = 0; i < ITERATIONS; i++) {
+			call.get();
+		}
+		return (System.nanoTime() - start) / 1_000.0 / ITERATIONS;
+	}
+}
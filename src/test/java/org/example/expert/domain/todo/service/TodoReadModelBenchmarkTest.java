@@ -0,0 +1,122 @@
+package org.example.expert.domain.todo.service;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.sun.management.ThreadMXBean;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * 엔티티를 읽어 DTO 로 옮기던 기존 경로와 TodoProjection 경로의 시간과 스레드 할당량을 H2 에서 비교합니다.
+ * ./gradlew benchmark 로 실행합니다.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+class TodoReadModelBenchmarkTest {
+
+	private static final int TODOS = 5_000;
+	private static final int USERS = 100;
+	private static final int PAGE_SIZE = 100;
+	private static final int WARMUP = 300;
+	private static final int ITERATIONS = 1_000;
+
+	private final ThreadMXBean threadMXBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+	@Autowired
+	private TodoService todoService;
+	@Autowired
+	private UserRepository userRepository;
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+	@Autowired
+	private EntityManager entityManager;
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private volatile Object sink;
+
+	@Test
+	void compareEntityAndProjection() {
+		List<Long> userIds = IntStream.range(0, USERS)
+			.mapToObj(i -> userRepository.save(new User("read" + i + "@email.com", "password", UserRole.USER)).getId())
+			.toList();
+		LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+		jdbcTemplate.batchUpdate(
+			"INSERT INTO todos (title, contents, weather, user_id, created_at, modified_at) VALUES (?, ?, ?, ?, ?, ?)",
+			IntStream.range(0, TODOS)
+				.mapToObj(i -> new Object[] {"title" + i, "contents" + i, "맑음", userIds.get(i % USERS),
+					Timestamp.valueOf(base), Timestamp.valueOf(base.plusSeconds(i))})
+				.toList());
+		Long todoId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM todos", Long.class);
+
+		TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+		readOnly.setReadOnly(true);
+
+		report("list   entity    ", () -> readOnly.execute(status -> entityPage(PAGE_SIZE)));
+		report("list   projection", () -> todoService.getTodos(1, PAGE_SIZE));
+		report("detail entity    ", () -> readOnly.execute(status -> entityDetail(todoId)));
+		report("detail projection", () -> todoService.getTodo(todoId));
+	}
+
+	// 변경 전 getTodos: 엔티티 그래프로 user 를 함께 읽고 COUNT 후 필드를 옮겨 담습니다.
+	private List<TodoResponse> entityPage(int size) {
+		List<Todo> todos = entityManager.createQuery(
+				"SELECT t FROM Todo t JOIN FETCH t.user ORDER BY t.modifiedAt DESC, t.id DESC", Todo.class)
+			.setMaxResults(size)
+			.getResultList();
+		entityManager.createQuery("SELECT COUNT(t) FROM Todo t", Long.class).getSingleResult();
+		return todos.stream().map(TodoReadModelBenchmarkTest::toResponse).toList();
+	}
+
+	// 변경 전 getTodo
+	private TodoResponse entityDetail(Long todoId) {
+		Todo todo = entityManager.createQuery("SELECT t FROM Todo t JOIN FETCH t.user WHERE t.id = :todoId", Todo.class)
+			.setParameter("todoId", todoId)
+			.getSingleResult();
+		return toResponse(todo);
+	}
+
+	private static TodoResponse toResponse(Todo todo) {
+		User user = todo.getUser();
+		return new TodoResponse(todo.getId(), todo.getTitle(), todo.getContents(), todo.getWeather(),
+			new UserResponse(user.getId(), user.getEmail()), todo.getCreatedAt(), todo.getModifiedAt());
+	}
+
+	private void report(String name, Supplier<Object> call) {
+		for (int i = 0; i < WARMUP; i++) {
+			sink = call.get();
+		}
+
+		long threadId = Thread.currentThread().getId();
+		long allocatedBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+		long start = System.nanoTime();
+		for (int i = 0; i < ITERATIONS; i++) {
+			sink = call.get();
+		}
+		long elapsed = System.nanoTime() - start;
+		long allocated = threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+		System.out.printf("[%s] %.0f us/call, %d KB/call%n", name, elapsed / 1_000.0 / ITERATIONS, allocated / ITERATIONS / 1024);
+	}
+}
@@ -4,28 +4,48 @@ import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.LongStream;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.assertj.core.api.Assertions;
 import org.example.expert.client.WeatherClient;
 
+import org.example.expert.common.concurrent.SingleFlight;
+import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.ResourceVersion;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.projection.TodoProjection;
+import org.example.expert.domain.todo.dto.request.TodoCursor;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoBatchResponse;
+import org.example.expert.domain.todo.dto.response.TodoCursorResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
 import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.entity.TodoTombstone;
 import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.repository.TodoTombstoneRepository;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.test.util.ReflectionTestUtils;
 
@@ -35,7 +55,17 @@ class TodoServiceTest {
 	@Mock
 	private TodoRepository todoRepository;
 	@Mock
+	private ManagerRepository managerRepository;
+	@Mock
+	private CommentRepository commentRepository;
+	@Mock
+	private TodoTombstoneRepository todoTombstoneRepository;
+	@Mock
 	private WeatherClient weatherClient;
+	@Mock
+	private TodoDetailCache todoDetailCache;
+	@Spy
+	private SingleFlight singleFlight = new SingleFlight(new SimpleMeterRegistry());
 	@InjectMocks
 	private TodoService todoService;
 
@@ -65,12 +95,12 @@ class TodoServiceTest {
 	void getTodo() {
 		// given
 		long todoId = 1L;
-		AuthUser authUser = new AuthUser(1L, "email", UserRole.USER);
-		User user = User.fromAuthUser(authUser);
-		Todo todo = new Todo("title", "contents", weatherClient.getTodayWeather(), user);
-		ReflectionTestUtils.setField(todo, "id", 1L);
+		TodoProjection todo = new TodoProjection(
+			todoId, "title", "contents", "맑음", 1L, "email", LocalDateTime.now(), LocalDateTime.now());
 
-		given(todoRepository.findByIdWithUser(todoId)).willReturn(Optional.of(todo));
+		given(todoRepository.findTodoById(todoId)).willReturn(Optional.of(todo));
+		given(todoDetailCache.get(eq(todoId), any())).willAnswer(
+			invocation -> invocation.<Function<Long, TodoResponse>>getArgument(1).apply(todoId));
 
 		// when
 		TodoResponse result = todoService.getTodo(todoId);
@@ -79,6 +109,7 @@ class TodoServiceTest {
 		assertNotNull(result);
 		assertEquals("title", result.getTitle());
 		assertEquals("contents", result.getContents());
+		assertEquals("email", result.getUser().getEmail());
 	}
 
 	@Test
@@ -88,15 +119,14 @@ class TodoServiceTest {
 		int page = 1;
 		int size = 2;
 
-		AuthUser authUser = new AuthUser(1L, "email", UserRole.USER);
-		User user = User.fromAuthUser(authUser);
-		Todo todo1 = new Todo("title1", "content1", "맑음", user);
-		Todo todo2 = new Todo("title2", "content2", "비", user);
+		LocalDateTime modifiedAt = LocalDateTime.now();
+		TodoProjection todo1 = todo(1L, "title1", modifiedAt);
+		TodoProjection todo2 = todo(2L, "title2", modifiedAt);
 
-		List<Todo> todoList = List.of(todo1, todo2);
-		Page<Todo> todoPage = new PageImpl<>(todoList);
+		List<TodoProjection> todoList = List.of(todo1, todo2);
+		Page<TodoProjection> todoPage = new PageImpl<>(todoList);
 
-		given(todoRepository.findAllByOrderByModifiedAtDesc(any(Pageable.class))).willReturn(todoPage);
+		given(todoRepository.findTodoPage(any(Pageable.class))).willReturn(todoPage);
 
 		// when
 		Page<TodoResponse> result = todoService.getTodos(page, size);
@@ -107,4 +137,182 @@ class TodoServiceTest {
 		assertEquals("title2", result.getContent().get(1).getTitle());
 	}
 
-}
\ No newline at end of file
+	@Test
+	@DisplayName("Todo 목록 커서 조회 - 다음 페이지가 있으면 마지막 항목의 커서를 돌려준다")
+	void getTodosByCursor_firstPage() {
+		// given
+		LocalDateTime modifiedAt = LocalDateTime.of(2024, 5, 1, 12, 0, 0, 123_456_000);
+		List<TodoProjection> todos = List.of(
+			todo(3L, "title3", modifiedAt),
+			todo(2L, "title2", modifiedAt),
+			todo(1L, "title1", modifiedAt.minusDays(1)));
+
+		given(todoRepository.findFirstPage(PageRequest.of(0, 3))).willReturn(todos);
+
+		// when
+		TodoCursorResponse result = todoService.getTodosByCursor("", 2);
+
+		// then
+		assertThat(result.getTodos()).extracting(TodoResponse::getTitle).containsExactly("title3", "title2");
+		TodoCursor nextCursor = TodoCursor.decode(result.getNextCursor());
+		assertEquals(modifiedAt, nextCursor.getModifiedAt());
+		assertEquals(2L, nextCursor.getId());
+	}
+
+	@Test
+	@DisplayName("Todo 목록 커서 조회 - 커서 다음부터 읽고 마지막 페이지면 커서가 없다")
+	void getTodosByCursor_lastPage() {
+		// given
+		LocalDateTime modifiedAt = LocalDateTime.of(2024, 5, 1, 12, 0);
+		String cursor = new TodoCursor(modifiedAt, 2L).encode();
+
+		given(todoRepository.findPageAfter(modifiedAt, 2L, PageRequest.of(0, 3)))
+			.willReturn(List.of(todo(1L, "title1", modifiedAt)));
+
+		// when
+		TodoCursorResponse result = todoService.getTodosByCursor(cursor, 2);
+
+		// then
+		assertThat(result.getTodos()).extracting(TodoResponse::getTitle).containsExactly("title1");
+		assertNull(result.getNextCursor());
+	}
+
+	@Test
+	@DisplayName("Todo 목록 커서 조회 - 잘못된 커서는 400")
+	void getTodosByCursor_invalidCursor() {
+		InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+			() -> todoService.getTodosByCursor("not-a-cursor", 10));
+
+		assertEquals("잘못된 커서입니다.", exception.getMessage());
+	}
+
+	@Test
+	@DisplayName("Todo 목록 커서 조회 - size 가 범위를 벗어나면 쿼리 없이 400")
+	void getTodosByCursor_sizeOutOfRange() {
+		assertThrows(InvalidRequestException.class, () -> todoService.getTodosByCursor("", 0));
+		assertThrows(InvalidRequestException.class, () -> todoService.getTodosByCursor("", 101));
+		assertThrows(InvalidRequestException.class, () -> todoService.getTodosByCursor("", Integer.MAX_VALUE));
+		verifyNoInteractions(todoRepository);
+	}
+
+	@Test
+	@DisplayName("todo 버전 조회 - 캐시에 있으면 쿼리 없이 캐시의 modifiedAt 으로 만든다")
+	void getTodoVersion_cached() {
+		// given
+		long todoId = 1L;
+		LocalDateTime modifiedAt = LocalDateTime.of(2024, 1, 1, 12, 0);
+		given(todoDetailCache.getIfPresent(todoId)).willReturn(todo(todoId, "title", modifiedAt).toResponse());
+
+		// when
+		ResourceVersion version = todoService.getTodoVersion(todoId);
+
+		// then
+		assertEquals(new ResourceVersion(modifiedAt, todoId, 1L).toETag(), version.toETag());
+		verify(todoRepository, never()).findVersionById(anyLong());
+	}
+
+	@Test
+	@DisplayName("todo 버전 조회 - 없는 todo 는 400")
+	void getTodoVersion_notFound() {
+		// given
+		given(todoRepository.findVersionById(1L)).willReturn(Optional.empty());
+
+		// when & then
+		InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+			() -> todoService.getTodoVersion(1L));
+		assertEquals("Todo not found", exception.getMessage());
+	}
+
+	@Test
+	@DisplayName("todo 여러 건 조회 - 캐시에 없는 것만 한 번에 읽고 요청 순서대로 돌려준다")
+	void getTodosByIds() {
+		// given
+		LocalDateTime now = LocalDateTime.now();
+		given(todoDetailCache.getAllPresent(Set.of(3L, 1L, 2L)))
+			.willReturn(Map.of(1L, todo(1L, "cached", now).toResponse()));
+		given(todoRepository.findTodosByIds(List.of(3L, 2L)))
+			.willReturn(List.of(todo(3L, "title3", now)));
+
+		// when
+		TodoBatchResponse result = todoService.getTodosByIds(List.of(3L, 1L, 3L, 2L));
+
+		// then
+		assertThat(result.getTodos()).extracting(TodoResponse::getTitle).containsExactly("title3", "cached");
+		assertThat(result.getMissingIds()).containsExactly(2L);
+	}
+
+	@Test
+	@DisplayName("todo 여러 건 조회 - 모두 캐시에 있으면 쿼리하지 않는다")
+	void getTodosByIds_allCached() {
+		// given
+		LocalDateTime now = LocalDateTime.now();
+		given(todoDetailCache.getAllPresent(any())).willReturn(Map.of(1L, todo(1L, "cached", now).toResponse()));
+
+		// when
+		TodoBatchResponse result = todoService.getTodosByIds(List.of(1L));
+
+		// then
+		assertEquals(1, result.getTodos().size());
+		verify(todoRepository, never()).findTodosByIds(any());
+	}
+
+	@Test
+	@DisplayName("todo 여러 건 조회 - id 가 없거나 100개를 넘으면 400")
+	void getTodosByIds_invalidIds() {
+		List<Long> tooMany = LongStream.rangeClosed(1, 101).boxed().toList();
+
+		assertThrows(InvalidRequestException.class, () -> todoService.getTodosByIds(List.of()));
+		assertThrows(InvalidRequestException.class, () -> todoService.getTodosByIds(tooMany));
+	}
+
+	@Test
+	@DisplayName("todo 삭제 - 담당자, 댓글, 할 일 순서로 벌크 삭제하고 tombstone 을 남긴 뒤 캐시를 지운다")
+	void deleteTodo() {
+		// given
+		AuthUser authUser = new AuthUser(1L, "email", UserRole.USER);
+		given(todoRepository.findUserIdById(10L)).willReturn(Optional.of(1L));
+
+		// when
+		todoService.deleteTodo(authUser, 10L);
+
+		// then
+		InOrder inOrder = inOrder(managerRepository, commentRepository, todoRepository, todoTombstoneRepository,
+			todoDetailCache);
+		inOrder.verify(managerRepository).deleteByTodoIdInBulk(10L);
+		inOrder.verify(commentRepository).deleteByTodoIdInBulk(10L);
+		inOrder.verify(todoRepository).deleteByIdInBulk(10L);
+		inOrder.verify(todoTombstoneRepository).save(argThat((TodoTombstone tombstone) -> tombstone.getTodoId() == 10L));
+		inOrder.verify(todoDetailCache).evict(10L);
+	}
+
+	@Test
+	@DisplayName("todo 삭제 - 작성자가 아니면 아무것도 지우지 않고 400")
+	void deleteTodo_notOwner() {
+		// given
+		AuthUser authUser = new AuthUser(2L, "email", UserRole.USER);
+		given(todoRepository.findUserIdById(10L)).willReturn(Optional.of(1L));
+
+		// when & then
+		InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+			() -> todoService.deleteTodo(authUser, 10L));
+		assertEquals("해당 일정을 만든 유저가 유효하지 않습니다.", exception.getMessage());
+		verify(todoRepository, never()).deleteByIdInBulk(anyLong());
+		verify(commentRepository, never()).deleteByTodoIdInBulk(anyLong());
+	}
+
+	@Test
+	@DisplayName("todo 삭제 - 없는 todo 는 400")
+	void deleteTodo_notFound() {
+		// given
+		given(todoRepository.findUserIdById(10L)).willReturn(Optional.empty());
+
+		// when & then
+		InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+			() -> todoService.deleteTodo(new AuthUser(1L, "email", UserRole.USER), 10L));
+		assertEquals("Todo not found", exception.getMessage());
+	}
+
+	private TodoProjection todo(Long id, String title, LocalDateTime modifiedAt) {
+		return new TodoProjection(id, title, "contents", "맑음", 1L, "email", modifiedAt, modifiedAt);
+	}
+}
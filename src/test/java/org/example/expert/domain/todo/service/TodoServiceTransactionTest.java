@@ -0,0 +1,66 @@
+package org.example.expert.domain.todo.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class TodoServiceTransactionTest {
+
+	@Autowired
+	private TodoService todoService;
+	@Autowired
+	private TodoRepository todoRepository;
+	@Autowired
+	private UserRepository userRepository;
+	@Autowired
+	private HikariDataSource dataSource;
+	@MockBean
+	private WeatherClient weatherClient;
+
+	@Test
+	@DisplayName("날씨 조회 중에는 트랜잭션도, 사용 중인 DB 커넥션도 없다")
+	void saveTodo_weatherFetchedWithoutConnection() {
+		// given
+		User user = userRepository.save(new User("weather@email.com", "password", UserRole.USER));
+		AuthUser authUser = new AuthUser(user.getId(), user.getEmail(), user.getUserRole());
+
+		AtomicInteger activeConnections = new AtomicInteger(-1);
+		AtomicReference<Boolean> transactionActive = new AtomicReference<>();
+		given(weatherClient.getTodayWeather()).willAnswer(invocation -> {
+			activeConnections.set(dataSource.getHikariPoolMXBean().getActiveConnections());
+			transactionActive.set(TransactionSynchronizationManager.isActualTransactionActive());
+			return "맑음";
+		});
+
+		// when
+		TodoSaveResponse result = todoService.saveTodo(authUser, new TodoSaveRequest("title", "contents"));
+
+		// then
+		assertEquals(0, activeConnections.get());
+		assertFalse(transactionActive.get());
+		assertEquals("맑음", result.getWeather());
+		assertTrue(todoRepository.findById(result.getId()).isPresent());
+	}
+}
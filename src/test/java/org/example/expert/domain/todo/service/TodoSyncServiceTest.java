@@ -0,0 +1,214 @@
+package org.example.expert.domain.todo.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.request.TodoCursor;
+import org.example.expert.domain.todo.dto.response.TodoChangeResponse;
+import org.example.expert.domain.todo.dto.response.TodoChangesResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.entity.TodoTombstone;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.repository.TodoTombstoneRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class TodoSyncServiceTest {
+
+	@Autowired
+	private TodoSyncService todoSyncService;
+	@Autowired
+	private TodoRepository todoRepository;
+	@Autowired
+	private TodoTombstoneRepository todoTombstoneRepository;
+	@Autowired
+	private UserRepository userRepository;
+	@Autowired
+	private CommentRepository commentRepository;
+	@Autowired
+	private ManagerRepository managerRepository;
+	@Autowired
+	private TodoService todoService;
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private User user;
+	private String since;
+
+	@BeforeEach
+	void setUp() {
+		user = userRepository.save(new User("sync-" + System.nanoTime() + "@email.com", "password", UserRole.USER));
+		since = new TodoCursor(LocalDateTime.now(), 0L).encode();
+	}
+
+	@Test
+	@DisplayName("추가/수정과 삭제를 (변경 시각, id) 순서로 합쳐서 돌려준다")
+	void getChanges_mergesUpsertsAndTombstones() {
+		// given
+		Todo first = todoRepository.save(new Todo("first", "contents", "Sunny", user));
+		Todo second = todoRepository.save(new Todo("second", "contents", "Sunny", user));
+		todoTombstoneRepository.save(new TodoTombstone(-1L, LocalDateTime.now()));
+		transactionTemplate.executeWithoutResult(status -> todoRepository.findById(first.getId()).orElseThrow()
+			.update("first updated", "contents"));
+
+		// when
+		TodoChangesResponse response = todoSyncService.getChanges(since, 10);
+
+		// then
+		assertThat(response.getChanges()).extracting(TodoChangeResponse::getId)
+			.containsExactly(second.getId(), -1L, first.getId());
+		assertThat(response.getChanges()).extracting(TodoChangeResponse::isDeleted)
+			.containsExactly(false, true, false);
+		assertEquals("first updated", response.getChanges().get(2).getTodo().getTitle());
+		assertNull(response.getChanges().get(1).getTodo());
+		assertFalse(response.isHasMore());
+	}
+
+	@Test
+	@DisplayName("nextToken 으로 이어서 읽으면 빠짐없이 한 번씩 받고, 더 없으면 같은 토큰을 돌려준다")
+	void getChanges_pagesWithToken() {
+		// given
+		List<Long> expected = new ArrayList<>();
+		for (int i = 0; i < 3; i++) {
+			expected.add(todoRepository.save(new Todo("title" + i, "contents", "Sunny", user)).getId());
+			todoTombstoneRepository.save(new TodoTombstone(-10L - i, LocalDateTime.now()));
+			expected.add(-10L - i);
+		}
+
+		// when
+		List<Long> received = new ArrayList<>();
+		String token = since;
+		TodoChangesResponse response;
+		do {
+			response = todoSyncService.getChanges(token, 2);
+			response.getChanges().forEach(change -> received.add(change.getId()));
+			token = response.getNextToken();
+		} while (response.isHasMore());
+
+		// then
+		assertEquals(expected, received);
+		TodoChangesResponse empty = todoSyncService.getChanges(token, 2);
+		assertThat(empty.getChanges()).isEmpty();
+		assertEquals(token, empty.getNextToken());
+	}
+
+	@Test
+	@DisplayName("따라잡은 뒤에는 overlap 만큼 다시 읽어, 위치보다 앞선 시각으로 늦게 커밋된 변경도 받는다")
+	void getChanges_lateCommitWithinOverlap() {
+		// given
+		TodoSyncService overlapping = new TodoSyncService(todoRepository, todoTombstoneRepository, 500, Duration.ofMinutes(1));
+		LocalDateTime startedAt = LocalDateTime.now();
+		String start = new TodoCursor(startedAt, 0L).encode();
+		Todo todo = todoRepository.save(new Todo("title", "contents", "Sunny", user));
+		TodoChangesResponse first = overlapping.getChanges(start, 10);
+		TodoChangesResponse firstWithoutOverlap = todoSyncService.getChanges(start, 10);
+		// 첫 응답보다 먼저 시각을 찍었지만 그 뒤에 커밋된 삭제
+		long lateId = 9_000_000_000L + System.nanoTime() % 1_000_000;
+		todoTombstoneRepository.save(new TodoTombstone(lateId, startedAt));
+
+		// when
+		TodoChangesResponse second = overlapping.getChanges(first.getNextToken(), 500);
+		TodoChangesResponse secondWithoutOverlap = todoSyncService.getChanges(firstWithoutOverlap.getNextToken(), 10);
+
+		// then
+		assertThat(first.getChanges()).extracting(TodoChangeResponse::getId).containsExactly(todo.getId());
+		assertFalse(first.isHasMore());
+		// 이미 받은 변경은 같은 (id, changedAt) 으로 다시 오고, 클라이언트는 이를 무시합니다.
+		assertThat(second.getChanges()).extracting(TodoChangeResponse::getId).containsSubsequence(lateId, todo.getId());
+		assertThat(second.getChanges()).filteredOn(change -> change.getId().equals(todo.getId()))
+			.extracting(TodoChangeResponse::getChangedAt)
+			.containsExactly(first.getChanges().get(0).getChangedAt());
+		assertThat(secondWithoutOverlap.getChanges()).extracting(TodoChangeResponse::getId).doesNotContain(lateId);
+	}
+
+	@Test
+	@DisplayName("overlap 구간에 size 보다 많은 변경이 있어도 이어서 읽기는 끝나고, 새 변경이 없으면 토큰이 뒤로 밀리지 않는다")
+	void getChanges_overlapPagingTerminates() {
+		// given
+		TodoSyncService overlapping = new TodoSyncService(todoRepository, todoTombstoneRepository, 500, Duration.ofMinutes(1));
+		for (int i = 0; i < 5; i++) {
+			todoRepository.save(new Todo("title" + i, "contents", "Sunny", user));
+		}
+		// 같은 DB 를 쓰는 다른 테스트의 변경도 overlap 구간에 들어오므로, 전체 행 수로 요청 횟수의 상한을 정합니다.
+		long maxRequests = (todoRepository.count() + todoTombstoneRepository.count()) / 2 + 2;
+
+		// when
+		List<String> caughtUpTokens = new ArrayList<>();
+		String token = since;
+		for (int round = 0; round < 3; round++) {
+			TodoChangesResponse response;
+			long requests = 0;
+			do {
+				response = overlapping.getChanges(token, 2);
+				token = response.getNextToken();
+				requests++;
+			} while (response.isHasMore() && requests < maxRequests);
+			assertFalse(response.isHasMore());
+			caughtUpTokens.add(token);
+		}
+
+		// then
+		assertEquals(1, caughtUpTokens.stream().distinct().count());
+		assertTrue(TodoCursor.decode(caughtUpTokens.get(0)).getModifiedAt().isBefore(LocalDateTime.now().minusSeconds(50)));
+	}
+
+	@Test
+	@DisplayName("할 일을 삭제하면 댓글과 담당자까지 지워지고 동기화에는 삭제로 나온다")
+	void getChanges_afterDeleteTodo() {
+		// given
+		Todo todo = todoRepository.save(new Todo("title", "contents", "Sunny", user));
+		for (int i = 0; i < 30; i++) {
+			commentRepository.save(new Comment("comment" + i, user, todo));
+		}
+		todoService.getTodo(todo.getId());
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+
+		// when
+		todoService.deleteTodo(new AuthUser(user.getId(), user.getEmail(), user.getUserRole()), todo.getId());
+
+		// then
+		// 작성자 조회, 벌크 DELETE 세 번, tombstone INSERT (merge 의 SELECT 없이)
+		assertEquals(5, statistics.getPrepareStatementCount());
+		TodoChangesResponse response = todoSyncService.getChanges(since, 10);
+		assertThat(response.getChanges()).extracting(TodoChangeResponse::getId).containsExactly(todo.getId());
+		assertTrue(response.getChanges().get(0).isDeleted());
+		assertFalse(todoRepository.existsById(todo.getId()));
+		assertEquals(0, commentRepository.findVersionByTodoId(todo.getId()).getCount());
+		assertThat(managerRepository.findByTodoIdWithUser(todo.getId())).isEmpty();
+		assertThrows(InvalidRequestException.class, () -> todoService.getTodo(todo.getId()));
+	}
+
+	@Test
+	@DisplayName("size 가 1 보다 작거나 토큰이 잘못되면 400")
+	void getChanges_invalidRequest() {
+		assertThrows(InvalidRequestException.class, () -> todoSyncService.getChanges(since, 0));
+		assertThrows(InvalidRequestException.class, () -> todoSyncService.getChanges("not-a-token", 10));
+	}
+}
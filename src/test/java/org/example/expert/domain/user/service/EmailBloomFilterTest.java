@@ -0,0 +1,83 @@
+package org.example.expert.domain.user.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import org.example.expert.domain.user.dto.projection.UserEmailProjection;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class EmailBloomFilterTest {
+
+	@Mock
+	private UserRepository userRepository;
+
+	private EmailBloomFilter emailBloomFilter;
+
+	@BeforeEach
+	void setUp() {
+		emailBloomFilter = new EmailBloomFilter(10_000, 0.01, 1_000, userRepository, new SimpleMeterRegistry());
+	}
+
+	@Test
+	@DisplayName("만들어지기 전에는 모든 이메일을 DB 로 넘긴다")
+	void mightContain_notReady() {
+		assertFalse(emailBloomFilter.isReady());
+		assertTrue(emailBloomFilter.mightContain("unknown@a.com"));
+	}
+
+	@Test
+	@DisplayName("users 테이블의 이메일과 이후 가입한 이메일은 항상 포함되고, 대소문자를 구분하지 않는다")
+	void build_noFalseNegatives() {
+		// given
+		// id 1..5000 을 마지막 id 다음부터 한 페이지씩 돌려줍니다.
+		given(userRepository.findEmailPageAfter(anyLong(), any())).willAnswer(invocation -> {
+			long lastId = invocation.getArgument(0);
+			Pageable limit = invocation.getArgument(1);
+			return LongStream.rangeClosed(lastId + 1, Math.min(lastId + limit.getPageSize(), 5_000))
+				.mapToObj(id -> new UserEmailProjection(id, "user" + id + "@a.com"))
+				.toList();
+		});
+
+		// when
+		emailBloomFilter.build();
+		emailBloomFilter.put("new@a.com");
+
+		// then
+		assertTrue(emailBloomFilter.isReady());
+		assertTrue(IntStream.rangeClosed(1, 5_000).allMatch(i -> emailBloomFilter.mightContain("user" + i + "@a.com")));
+		verify(userRepository, times(6)).findEmailPageAfter(anyLong(), any());
+		verify(userRepository).findEmailPageAfter(eq(5_000L), any());
+		assertTrue(emailBloomFilter.mightContain("NEW@a.com"));
+		long falsePositives = IntStream.range(0, 10_000)
+			.filter(i -> emailBloomFilter.mightContain("other" + i + "@a.com"))
+			.count();
+		assertTrue(falsePositives < 300, "false positives = " + falsePositives);
+	}
+
+	@Test
+	@DisplayName("만들지 못하면 준비되지 않은 상태로 남아 DB 로 넘긴다")
+	void build_failure() {
+		// given
+		given(userRepository.findEmailPageAfter(anyLong(), any())).willThrow(new IllegalStateException("connection refused"));
+
+		// when
+		emailBloomFilter.build();
+
+		// then
+		assertFalse(emailBloomFilter.isReady());
+		assertTrue(emailBloomFilter.mightContain("unknown@a.com"));
+	}
+}